@@ -63,6 +63,10 @@ sourceSets {
         compileClasspath += sourceSets.main.get().output
         runtimeClasspath += sourceSets.main.get().output
     }
+    register("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
 }
 
 configurations {
@@ -75,6 +79,12 @@ configurations {
     "junit4TestRuntimeOnly" {
         extendsFrom(runtimeOnly.get())
     }
+    "jmhImplementation" {
+        extendsFrom(implementation.get())
+    }
+    "jmhRuntimeOnly" {
+        extendsFrom(runtimeOnly.get())
+    }
 }
 
 group = "com.webfleet"
@@ -83,6 +93,8 @@ dependencies {
     // api
     api("org.assertj", "assertj-core", "[3.23.0,3.24.0[")
     compileOnly("org.opentest4j", "opentest4j", "[1.2.0,1.3.0[")
+    compileOnly("org.junit.jupiter", "junit-jupiter-api", "[5.8.0,6.0.0[")
+    compileOnly("org.junit.platform", "junit-platform-launcher", "[1.8.0,2.0.0[")
 
     // lombok
     compileOnly(annotationProcessor("org.projectlombok", "lombok", "[1.18.0,2.0.0["))
@@ -94,6 +106,12 @@ dependencies {
 
     // junit4 test used to test optional dependency to opentest4j
     "junit4TestImplementation"("junit", "junit", "4.13.2")
+
+    // benchmarks
+    "jmhImplementation"("org.openjdk.jmh", "jmh-core", "1.35")
+    "jmhAnnotationProcessor"("org.openjdk.jmh", "jmh-generator-annprocess", "1.35")
+    // enables AsyncAssertionError creation path measured next to the fallback one
+    "jmhRuntimeOnly"("org.opentest4j", "opentest4j", "[1.2.0,1.3.0[")
 }
 
 tasks {
@@ -112,6 +130,20 @@ tasks {
         testClassesDirs = sourceSet.output.classesDirs
         classpath = configurations[sourceSet.runtimeClasspathConfigurationName] + sourceSet.output + sourceSets["main"].output
     }
+    // Benchmark tasks
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs JMH benchmarks, optionally filtered with -Pjmh.includes=<regexp>"
+        val sourceSet = sourceSets["jmh"]
+        classpath = sourceSet.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        // gc profiler reports allocated bytes per operation
+        args = listOf("-prof", "gc", "-rf", "json", "-rff", "$buildDir/reports/jmh/results.json") +
+            listOfNotNull(project.findProperty("jmh.includes")?.toString())
+        doFirst {
+            mkdir("$buildDir/reports/jmh")
+        }
+    }
     test {
         useJUnitPlatform()
         systemProperty("file.encoding", "UTF-8")
@@ -0,0 +1,199 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Baseline benchmarks of the single pass of the assertions check loop.
+ * <p>
+ * Measured operations:
+ * <ul>
+ *     <li>{@code evaluatePassing}, {@code evaluateFailing} - single {@link AsyncAssertResult#evaluate} call</li>
+ *     <li>{@code evaluatePassingReused}, {@code evaluateFailingReused} - the same call with reused {@link CollectingSoftAssertions},
+ *     compare {@code gc.alloc.rate.norm} (with {@code -prof gc}) to get the bytes saved per check</li>
+ *     <li>{@code checkConditionPassing}, {@code checkConditionFailing} - single check of {@link AsyncAssert#until(java.util.function.BooleanSupplier)},
+ *     evaluated without {@link SoftAssertions}</li>
+ *     <li>{@code softAssertionsFirstCall} - latency of the first {@link SoftAssertions} usage in fresh JVM</li>
+ *     <li>{@code createError}, {@code createFallbackError} - error creation with {@link AsyncAssertionError} and the fallback path</li>
+ *     <li>{@code wakeup} - latency from the wait end notification to the waiting thread resuming the check loop</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CheckLoopBenchmark
+{
+    private static final String HEADING = "Async assertion failed after exceeding 5000ms timeout";
+
+    private final AtomicLong counter = new AtomicLong();
+    private final Consumer<SoftAssertions> passingAssertions = async -> async.assertThat(counter.incrementAndGet()).isPositive();
+    private final Consumer<SoftAssertions> failingAssertions = async -> async.assertThat(counter.incrementAndGet()).isNegative();
+    private final CollectingSoftAssertions reusableSoftAssertions = new CollectingSoftAssertions();
+    private final Supplier<AsyncAssertResult> passingCondition = AsyncAssertImpl.conditionCheck(() -> counter.incrementAndGet() > 0);
+    private final Supplier<AsyncAssertResult> failingCondition = AsyncAssertImpl.conditionCheck(() -> counter.incrementAndGet() < 0);
+    private AssertionError error;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        error = new AssertionError("Expecting actual: 1 to be less than: 0");
+    }
+
+    @Benchmark
+    public boolean evaluatePassing()
+    {
+        return AsyncAssertResult.evaluate(passingAssertions).hasFailed();
+    }
+
+    @Benchmark
+    public boolean evaluateFailing()
+    {
+        return AsyncAssertResult.evaluate(failingAssertions).hasFailed();
+    }
+
+    @Benchmark
+    public boolean evaluatePassingReused()
+    {
+        return AsyncAssertResult.evaluate(passingAssertions, reusableSoftAssertions.reset()).hasFailed();
+    }
+
+    @Benchmark
+    public boolean evaluateFailingReused()
+    {
+        return AsyncAssertResult.evaluate(failingAssertions, reusableSoftAssertions.reset()).hasFailed();
+    }
+
+    @Benchmark
+    public boolean checkConditionPassing()
+    {
+        return passingCondition.get().hasFailed();
+    }
+
+    @Benchmark
+    public boolean checkConditionFailing()
+    {
+        return failingCondition.get().hasFailed();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public boolean softAssertionsFirstCall()
+    {
+        return AsyncAssertResult.evaluate(passingAssertions).hasFailed();
+    }
+
+    @Benchmark
+    public AssertionError createError()
+    {
+        return AsyncAssertionErrorCreator.create(HEADING, error);
+    }
+
+    @Benchmark
+    public AssertionError createFallbackError()
+    {
+        return AsyncAssertionErrorCreator.fallbackCreator().apply(HEADING, error);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long wakeup(final WakeupState state)
+    {
+        return state.notifyAndAwaitWakeup();
+    }
+
+    /**
+     * Thread waiting in the loop with {@link SystemTime} wait condition, notified by the benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class WakeupState
+    {
+        private static final Duration WAIT_INTERVAL = Duration.ofSeconds(1);
+
+        @Param({"MUTEX", "SIGNAL"})
+        public String waitMutexType;
+
+        private final AtomicLong wakeups = new AtomicLong();
+        private Object waitMutex;
+        private Thread waiter;
+
+        @Setup(Level.Trial)
+        public void startWaiter()
+        {
+            waitMutex = "SIGNAL".equals(waitMutexType) ? new AsyncSignal() : new Object();
+            final var waitCondition = SystemTime.MONOTONIC.waitCondition(waitMutex);
+            waiter = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted())
+                {
+                    waitCondition.waitFor(WAIT_INTERVAL);
+                    wakeups.incrementAndGet();
+                }
+            }, "benchmark-waiter");
+            waiter.setDaemon(true);
+            waiter.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stopWaiter()
+        {
+            waiter.interrupt();
+        }
+
+        @Setup(Level.Invocation)
+        public void awaitWaiting()
+        {
+            while (waiter.getState() != Thread.State.TIMED_WAITING)
+            {
+                Thread.onSpinWait();
+            }
+        }
+
+        long notifyAndAwaitWakeup()
+        {
+            final var wakeupsBefore = wakeups.get();
+            if (waitMutex instanceof AsyncSignal)
+            {
+                ((AsyncSignal) waitMutex).signal();
+            }
+            else
+            {
+                synchronized (waitMutex)
+                {
+                    waitMutex.notifyAll();
+                }
+            }
+            long currentWakeups;
+            while ((currentWakeups = wakeups.get()) == wakeupsBefore)
+            {
+                Thread.onSpinWait();
+            }
+            return currentWakeups;
+        }
+    }
+}
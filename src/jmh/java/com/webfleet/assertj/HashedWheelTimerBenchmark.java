@@ -0,0 +1,149 @@
+package com.webfleet.assertj;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmark of 10k concurrent pending awaits driven by {@link HashedWheelTimer}.
+ * <p>
+ * Reported metrics:
+ * <ul>
+ *     <li>score - time per await, including the configured check intervals</li>
+ *     <li>{@code gc.alloc.rate.norm} (with {@code -prof gc}) - bytes allocated per await</li>
+ *     <li>{@code meanLatencyMicros}, {@code maxLatencyMicros} - delay between task deadline and its execution</li>
+ *     <li>{@code retainedBytesPerAwait} - heap retained by single pending await</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class HashedWheelTimerBenchmark
+{
+    private static final int AWAITS = 10_000;
+    private static final Duration CHECK_INTERVAL = Duration.ofMillis(10L);
+
+    private HashedWheelTimer timer;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        timer = new HashedWheelTimer("benchmark-timer", Duration.ofMillis(1L), 512);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        timer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AWAITS)
+    public void schedulingLatency(final SchedulingMetrics metrics) throws InterruptedException
+    {
+        final var latencies = new long[AWAITS];
+        final var latch = new CountDownLatch(AWAITS);
+        for (var i = 0; i < AWAITS; i++)
+        {
+            final var index = i;
+            final var deadline = System.nanoTime() + CHECK_INTERVAL.toNanos();
+            timer.schedule(() -> {
+                latencies[index] = System.nanoTime() - deadline;
+                latch.countDown();
+            }, CHECK_INTERVAL);
+        }
+        latch.await();
+        metrics.record(latencies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AWAITS)
+    public void concurrentAwaits()
+    {
+        final var futures = new CompletableFuture<?>[AWAITS];
+        for (var i = 0; i < AWAITS; i++)
+        {
+            // each await passes on the third check
+            final var remainingFailures = new AtomicInteger(2);
+            futures[i] = AsyncAssertions.awaitAtMostFiveSeconds()
+                .withCheckInterval(CHECK_INTERVAL)
+                .untilAssertionsAsync(async -> async.assertThat(remainingFailures.getAndDecrement()).isLessThanOrEqualTo(0));
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(AWAITS)
+    public void pendingAwaitsFootprint(final FootprintMetrics metrics)
+    {
+        final var condition = new CompletableFuture<Void>();
+        final var futures = new CompletableFuture<?>[AWAITS];
+        final var heapBefore = usedHeapAfterGc();
+        for (var i = 0; i < AWAITS; i++)
+        {
+            futures[i] = AsyncAssertions.awaitAtMostFiveSeconds()
+                .withCheckInterval(CHECK_INTERVAL)
+                .untilAssertionsAsync(async -> async.assertThat(condition).isDone());
+        }
+        metrics.retainedBytesPerAwait = (double) (usedHeapAfterGc() - heapBefore) / AWAITS;
+        condition.complete(null);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static long usedHeapAfterGc()
+    {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SchedulingMetrics
+    {
+        public double meanLatencyMicros;
+        public double maxLatencyMicros;
+
+        void record(final long[] latencies)
+        {
+            var sum = 0L;
+            var max = 0L;
+            for (final var latency : latencies)
+            {
+                sum += latency;
+                max = Math.max(max, latency);
+            }
+            meanLatencyMicros = sum / 1_000.0 / latencies.length;
+            maxLatencyMicros = max / 1_000.0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FootprintMetrics
+    {
+        public double retainedBytesPerAwait;
+    }
+}
@@ -3,6 +3,7 @@ package com.webfleet.assertj;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import org.assertj.core.api.SoftAssertionError;
@@ -65,4 +66,25 @@ public class AsyncAssertionErrorCreatorJUnit4Test
                 + "-- failure 2 --error-2\n"
                 + "-- failure 3 --error-3");
     }
+
+    @Test
+    public void shouldCreateAssertionErrorForGroupedErrors()
+    {
+        // given
+        final var errors = new LinkedHashMap<String, AssertionError>();
+        errors.put("first", new SoftAssertionError(List.of("error-1", "error-2")));
+        errors.put("second", new AssertionError("error-3"));
+        final var groupedError = new GroupedAssertionError(errors);
+
+        // when
+        final var asyncAssertionError = AsyncAssertionErrorCreator.create(CONFIG, groupedError);
+
+        // then
+        assertThat(asyncAssertionError)
+            .isInstanceOf(AssertionError.class)
+            .hasMessage("Async assertion failed after exceeding 4000ms timeout (failures 3)\n"
+                + "-- failure 1 --[first] error-1\n"
+                + "-- failure 2 --[first] error-2\n"
+                + "-- failure 3 --[second] error-3");
+    }
 }
@@ -1,8 +1,19 @@
 package com.webfleet.assertj;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.SoftAssertions;
 
@@ -33,6 +44,151 @@ public interface AsyncAssert
      */
     void untilAssertions(Consumer<SoftAssertions> assertionsConfigurer);
 
+    /**
+     * Awaits asynchronously, until all configured assertions are passed or timeout is exceeded.
+     * <p>
+     * Works the same way as {@link AsyncAssert#untilAssertions}, but without blocking the calling thread.
+     * The checks are executed on a shared scheduler thread, so the number of threads doesn't grow with the number of pending assertions.
+     * The returned future is completed when assertions are passed, or completed exceptionally with {@link AssertionError}
+     * containing failures from last assertion check after exceeding timeout.
+     * Cancelling the returned future stops the checks.
+     * <p>
+     * As no thread is blocked between the checks, the wait mutex configured with {@link AsyncAssert#usingWaitMutex} is not used.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * var first = awaitAtMostFiveSeconds().untilAssertionsAsync(async -> async.assertThat(isFirstDone()).isTrue());
+     * var second = awaitAtMostFiveSeconds().untilAssertionsAsync(async -> async.assertThat(isSecondDone()).isTrue());
+     * CompletableFuture.allOf(first, second).join();
+     * }</pre>
+     *
+     * @param assertionsConfigurer lambda consumer configuring {@link SoftAssertions} object
+     * @return future completed on assertions success or completed exceptionally on timeout
+     */
+    CompletableFuture<Void> untilAssertionsAsync(Consumer<SoftAssertions> assertionsConfigurer);
+
+    /**
+     * Awaits until all groups of latched assertions are passed or timeout is exceeded.
+     * <p>
+     * Works the same way as {@link AsyncAssert#untilAssertions}, but the assertions are split into groups with {@link LatchedAssertions#check},
+     * and the group which passed is not checked again. When all groups passed, they're all checked once again to confirm the success.
+     * It's intended for monotonic conditions with expensive queries, reducing the evaluation cost by up to the number of groups.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds().untilLatchedAssertions(latched -> {
+     *     latched.check(async -> async.assertThat(repository.findOrder(orderId)).isPresent());
+     *     latched.check(async -> async.assertThat(repository.findInvoice(orderId)).isPresent());
+     * });
+     * }</pre>
+     *
+     * @param assertionsConfigurer lambda consumer configuring {@link LatchedAssertions} object
+     * @see LatchedAssertions
+     */
+    void untilLatchedAssertions(Consumer<LatchedAssertions> assertionsConfigurer);
+
+    /**
+     * Verifies that all configured assertions keep passing until the timeout, which is the period of the stability.
+     * <p>
+     * The assertions are checked immediately and then periodically with the check interval, until the end of the period.
+     * The first failed check ends the verification immediately with {@link AssertionError} reporting the failures
+     * and the time of the failure since the start of the period.
+     * The wait configured with {@link AsyncAssert#usingSignal} or {@link AsyncAssert#usingWaitMutex} is ended on each state change,
+     * so the assertions are checked right after the change instead of waiting for the next check interval.
+     * The backoff strategy is not used, as the check interval of the passing checks is never increased.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * holdsFor(Duration.ofSeconds(5))
+     *     .usingSignal(redeliverySignal)
+     *     .during(async -> {
+     *         async.assertThat(consumer.redeliveredMessages()).isEmpty();
+     *     });
+     * }</pre>
+     *
+     * @param assertionsConfigurer lambda consumer configuring {@link SoftAssertions} object
+     */
+    void during(Consumer<SoftAssertions> assertionsConfigurer);
+
+    /**
+     * Awaits until the condition is true or timeout is exceeded.
+     * <p>
+     * Lightweight alternative of {@link AsyncAssert#untilAssertions} for simple flag checks:
+     * the condition is checked with plain call, without creating {@link SoftAssertions} on each check.
+     * The assertion error describing the failure is created only after exceeding the timeout.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostOneSecond().until(service::isStarted);
+     * }</pre>
+     *
+     * @param condition the condition to be awaited
+     */
+    void until(BooleanSupplier condition);
+
+    /**
+     * Awaits until the value matches the predicate or timeout is exceeded.
+     * <p>
+     * Lightweight alternative of {@link AsyncAssert#untilAssertions} for simple value checks:
+     * the value is checked with plain call, without creating {@link SoftAssertions} on each check.
+     * The assertion error describing the last value is created only after exceeding the timeout.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostOneSecond().until(queue::size, size -> size == 0);
+     * }</pre>
+     *
+     * @param valueSupplier the supplier of the checked value
+     * @param predicate     the predicate to be matched by the value
+     * @param <T>           the type of the value
+     */
+    <T> void until(Supplier<T> valueSupplier, Predicate<? super T> predicate);
+
+    /**
+     * Awaits until the {@code long} value matches the predicate or timeout is exceeded.
+     * <p>
+     * The value is checked without boxing and without creating {@link SoftAssertions} on each check.
+     * After exceeding the timeout the assertion error reports the last observed value and the highest value seen,
+     * so the slowly progressing value can be told apart from the stuck one.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds().untilLong(consumer::processedMessageCount, count -> count >= 1_000L);
+     * }</pre>
+     *
+     * @param valueSupplier the supplier of the checked value
+     * @param predicate     the predicate to be matched by the value
+     */
+    void untilLong(LongSupplier valueSupplier, LongPredicate predicate);
+
+    /**
+     * Awaits until the {@code int} value matches the predicate or timeout is exceeded.
+     * Works the same way as {@link AsyncAssert#untilLong}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds().untilInt(queue::size, size -> size == 0);
+     * }</pre>
+     *
+     * @param valueSupplier the supplier of the checked value
+     * @param predicate     the predicate to be matched by the value
+     */
+    void untilInt(IntSupplier valueSupplier, IntPredicate predicate);
+
+    /**
+     * Awaits until the {@code double} value matches the predicate or timeout is exceeded.
+     * Works the same way as {@link AsyncAssert#untilLong}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds().untilDouble(job::progress, progress -> progress >= 1.0);
+     * }</pre>
+     *
+     * @param valueSupplier the supplier of the checked value
+     * @param predicate     the predicate to be matched by the value
+     */
+    void untilDouble(DoubleSupplier valueSupplier, DoublePredicate predicate);
+
     /**
      * Configures assertion to use given mutex object for check interval wait logic.
      * <p>
@@ -69,9 +225,197 @@ public interface AsyncAssert
      */
     AsyncAssert usingWaitMutex(Object waitMutex);
 
+    /**
+     * Configures assertion to use given signal for check interval wait logic.
+     * <p>
+     * Works like {@link AsyncAssert#usingWaitMutex}, but the wait is ended with non-blocking {@link AsyncSignal#signal()} call,
+     * without using object monitors.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * // given
+     * var condition = new AtomicBoolean();
+     * var signal = new AsyncSignal();
+     *
+     * // when
+     * executor.execute(() -> {
+     *     condition.set(true);
+     *     signal.signal();
+     * });
+     *
+     * // then
+     * awaitAtMostOneSecond()
+     *     .usingSignal(signal)
+     *     .untilAssertions(async -> {
+     *         async.assertThat(condition).isTrue();
+     *     });
+     * }</pre>
+     *
+     * @param signal signal object
+     * @return new {@link AsyncAssert} using given signal
+     */
+    AsyncAssert usingSignal(AsyncSignal signal);
+
+    /**
+     * Configures the strategy computing the interval to be waited after each failed assertions check.
+     * The computed interval is shortened to not exceed the timeout.
+     * Replaces the check interval configured with {@link AsyncAssert#withCheckInterval} method.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds()
+     *     .withBackoff(BackoffStrategy.exponential(Duration.ofMillis(10)).withCap(Duration.ofMillis(500)))
+     *     .untilAssertions(async -> {
+     *         async.assertThat(condition).isTrue();
+     *     });
+     * }</pre>
+     *
+     * @param backoff backoff strategy
+     * @return new {@link AsyncAssert} with set backoff strategy
+     * @see BackoffStrategy
+     */
+    AsyncAssert withBackoff(BackoffStrategy backoff);
+
+    /**
+     * Configures the assertions to be checked each time the given publisher emits an element, instead of checking them in intervals.
+     * <p>
+     * The publisher is subscribed before the first check and the elements are requested one by one after each failed check.
+     * The subscription is cancelled on success or timeout.
+     * When the publisher completes or fails, the assertions are checked for the last time, failing immediately without waiting for the timeout.
+     * The check interval, backoff and wait strategy are not used, and the publisher is not supported by {@link AsyncAssert#untilAssertionsAsync}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostFiveSeconds()
+     *     .onEach(orderStatePublisher)
+     *     .untilAssertions(async -> {
+     *         async.assertThat(orderRepository.find(orderId)).hasFieldOrPropertyWithValue("state", SHIPPED);
+     *     });
+     * }</pre>
+     *
+     * @param publisher publisher of the state changes
+     * @return new {@link AsyncAssert} checking the assertions on each published element
+     */
+    AsyncAssert onEach(Flow.Publisher<?> publisher);
+
+    /**
+     * Configures single {@link SoftAssertions} instance to be reused by all checks of the await, instead of creating new instance for each check.
+     * The errors collected by the previous check are cleared before the next check, so the allocations don't grow with number of checks.
+     * <p>
+     * The {@link SoftAssertions} object passed to the assertions consumer must not be used outside of the consumer.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostThirtySeconds()
+     *     .withCheckInterval(1, TimeUnit.MILLISECONDS)
+     *     .reusingSoftAssertions()
+     *     .untilAssertions(async -> {
+     *         async.assertThat(condition).isTrue();
+     *     });
+     * }</pre>
+     *
+     * @return new {@link AsyncAssert} reusing soft assertions
+     */
+    AsyncAssert reusingSoftAssertions();
+
+    /**
+     * Configures the time limit of single assertions check.
+     * <p>
+     * The assertions are evaluated on a worker thread, limited by the check timeout and by the time remaining until the await timeout,
+     * with a few milliseconds of grace for the last check, so the await doesn't exceed its timeout even if the assertions are blocked, e.g. by the stuck remote call or the deadlock.
+     * The check exceeding the limit is interrupted and reported as failed with the stack trace of the worker thread, and the await goes on
+     * with the next check until the timeout. The next check is not started until the interrupted one ends, so the checks never overlap.
+     * By default, the assertions are evaluated by the awaiting thread without time limit.
+     * <p>
+     * The check timeout is measured by the system clock. With the custom clock configured with {@link AsyncAssert#usingClock},
+     * the check is limited only by the check timeout.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostThirtySeconds()
+     *     .withCheckTimeout(Duration.ofSeconds(2))
+     *     .untilAssertions(async -> {
+     *         async.assertThat(remoteService.fetchStatus()).isEqualTo(READY);
+     *     });
+     * }</pre>
+     *
+     * @param checkTimeout time limit of single check, must be greater than zero
+     * @return new {@link AsyncAssert} with set check timeout
+     */
+    AsyncAssert withCheckTimeout(Duration checkTimeout);
+
+    /**
+     * Configures the strategy of waiting the check interval in between assertions checks.
+     * By default, the wait is blocking for the whole check interval.
+     * The strategy is not used by {@link AsyncAssert#untilAssertionsAsync} method.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostOneSecond()
+     *     .withCheckInterval(100, TimeUnit.MICROSECONDS)
+     *     .withWaitStrategy(WaitStrategy.spinThenPark(Duration.ofNanos(20_000), Duration.ofNanos(50_000)))
+     *     .untilAssertions(async -> {
+     *         async.assertThat(condition).isTrue();
+     *     });
+     * }</pre>
+     *
+     * @param waitStrategy wait strategy
+     * @return new {@link AsyncAssert} with set wait strategy
+     * @see WaitStrategy
+     */
+    AsyncAssert withWaitStrategy(WaitStrategy waitStrategy);
+
+    /**
+     * Registers the listener notified about the checks and waits of this assertion only,
+     * in addition to the listeners registered with {@link AsyncAssertions#addListener}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMostOneSecond()
+     *     .withListener(new AsyncAssertListener() {
+     *         @Override
+     *         public void onCheck(AsyncAssertContext context, int checkNumber, Duration evaluationTime, boolean passed)
+     *         {
+     *             System.out.println("check " + checkNumber + " took " + evaluationTime);
+     *         }
+     *     })
+     *     .untilAssertions(async -> {
+     *         async.assertThat(condition).isTrue();
+     *     });
+     * }</pre>
+     *
+     * @param listener the listener
+     * @return new {@link AsyncAssert} with added listener
+     * @see AsyncAssertListener
+     */
+    AsyncAssert withListener(AsyncAssertListener listener);
+
+    /**
+     * Configures the clock measuring the timeout and waiting the check intervals.
+     * The fake clock of the test suite can be used, so the waits advance the clock instead of sleeping.
+     * The waits of the clock can't be ended by notifications, so the clock can't be combined with {@link AsyncAssert#usingWaitMutex},
+     * {@link AsyncAssert#usingSignal} and {@link AsyncAssert#onEach} - such combination is rejected with {@link IllegalStateException}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAtMost(Duration.ofMinutes(5))
+     *     .usingClock(fakeClock)
+     *     .untilAssertions(async -> {
+     *         async.assertThat(scheduler.executedJobs()).isNotEmpty();
+     *     });
+     * }</pre>
+     *
+     * @param clock the clock
+     * @return new {@link AsyncAssert} using given clock
+     * @throws IllegalStateException if the wait mutex, signal or publisher is configured
+     * @see AsyncClock
+     */
+    AsyncAssert usingClock(AsyncClock clock);
+
     /**
      * Configures the interval to be waited between assertions checks.
      * The interval must be greater than zero and lower than timeout.
+     * Replaces the backoff strategy configured with {@link AsyncAssert#withBackoff} method.
      * <p>
      * Example usage:
      * <pre>{@code
@@ -90,6 +434,7 @@ public interface AsyncAssert
     /**
      * Configures the interval to be waited between assertions checks.
      * The interval must be greater than zero and lower than timeout.
+     * Sub-millisecond intervals, like {@code withCheckInterval(200, TimeUnit.MICROSECONDS)}, are supported.
      * <p>
      * Example usage:
      * <pre>{@code
@@ -106,6 +451,6 @@ public interface AsyncAssert
      */
     default AsyncAssert withCheckInterval(final long checkInterval, @NonNull final TimeUnit timeUnit)
     {
-        return withCheckInterval(Duration.ofMillis(timeUnit.toMillis(checkInterval)));
+        return withCheckInterval(Duration.of(checkInterval, timeUnit.toChronoUnit()));
     }
 }
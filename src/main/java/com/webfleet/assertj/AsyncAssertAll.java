@@ -0,0 +1,149 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+
+
+/**
+ * Asynchronous assertion of multiple named conditions awaited together with shared timeout.
+ */
+public interface AsyncAssertAll
+{
+    /**
+     * Adds named condition to be awaited.
+     * <p>
+     * The condition is configured in lambda consumer of {@link SoftAssertions} object, the same way as in {@link AsyncAssert#untilAssertions}.
+     *
+     * @param name unique name of the condition, used in failure messages
+     * @param assertionsConfigurer lambda consumer configuring {@link SoftAssertions} object
+     * @return new {@link AsyncAssertAll} with added condition
+     */
+    AsyncAssertAll condition(String name, Consumer<SoftAssertions> assertionsConfigurer);
+
+    /**
+     * Configures the conditions to be evaluated in parallel on given executor.
+     * <p>
+     * On each check all pending conditions are submitted to the executor and the check ends when all of them are evaluated,
+     * so the duration of the check is the duration of the slowest condition instead of the sum of all conditions.
+     * Each condition is evaluated with its own {@link SoftAssertions} and the failures are labeled with condition name,
+     * the same way as for the conditions evaluated one after another.
+     * The last pending condition is evaluated by the awaiting thread, without the executor.
+     * <p>
+     * The executor should have a thread available for each condition, e.g. executor of virtual threads on Java 21+.
+     * The executor is not shut down by the await.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAll(Duration.ofSeconds(5))
+     *     .inParallel(executor)
+     *     .condition("orders", async -> async.assertThat(orderService.findOrder(orderId)).isPresent())
+     *     .condition("invoices", async -> async.assertThat(invoiceService.findInvoice(orderId)).isPresent())
+     *     .untilAllPassed();
+     * }</pre>
+     *
+     * @param executor executor evaluating the conditions
+     * @return new {@link AsyncAssertAll} evaluating the conditions in parallel
+     */
+    AsyncAssertAll inParallel(Executor executor);
+
+    /**
+     * Configures the interval to be waited between conditions checks.
+     * The interval must be greater than zero and lower than timeout.
+     *
+     * @param checkInterval check interval
+     * @return new {@link AsyncAssertAll} with set check interval
+     * @see AsyncAssert#withCheckInterval(Duration)
+     */
+    AsyncAssertAll withCheckInterval(Duration checkInterval);
+
+    /**
+     * Configures the strategy computing the interval to be waited after each failed conditions check.
+     *
+     * @param backoff backoff strategy
+     * @return new {@link AsyncAssertAll} with set backoff strategy
+     * @see AsyncAssert#withBackoff(BackoffStrategy)
+     */
+    AsyncAssertAll withBackoff(BackoffStrategy backoff);
+
+    /**
+     * Configures the time limit of single conditions check.
+     *
+     * @param checkTimeout time limit of single check
+     * @return new {@link AsyncAssertAll} with set check timeout
+     * @see AsyncAssert#withCheckTimeout(Duration)
+     */
+    AsyncAssertAll withCheckTimeout(Duration checkTimeout);
+
+    /**
+     * Configures the strategy of waiting the check interval in between conditions checks.
+     *
+     * @param waitStrategy wait strategy
+     * @return new {@link AsyncAssertAll} with set wait strategy
+     * @see AsyncAssert#withWaitStrategy(WaitStrategy)
+     */
+    AsyncAssertAll withWaitStrategy(WaitStrategy waitStrategy);
+
+    /**
+     * Configures single {@link SoftAssertions} instance to be reused by all checks of the conditions.
+     *
+     * @return new {@link AsyncAssertAll} reusing soft assertions
+     * @see AsyncAssert#reusingSoftAssertions()
+     */
+    AsyncAssertAll reusingSoftAssertions();
+
+    /**
+     * Registers the listener notified about the checks and waits of these conditions only.
+     *
+     * @param listener the listener
+     * @return new {@link AsyncAssertAll} with added listener
+     * @see AsyncAssert#withListener(AsyncAssertListener)
+     */
+    AsyncAssertAll withListener(AsyncAssertListener listener);
+
+    /**
+     * Configures the clock measuring the timeout and waiting the check intervals of the conditions.
+     *
+     * @param clock the clock
+     * @return new {@link AsyncAssertAll} using given clock
+     * @see AsyncAssert#usingClock(AsyncClock)
+     */
+    AsyncAssertAll usingClock(AsyncClock clock);
+
+    /**
+     * Configures conditions to use given mutex object for check interval wait logic.
+     *
+     * @param waitMutex mutex object
+     * @return new {@link AsyncAssertAll} using given wait mutex
+     * @see AsyncAssert#usingWaitMutex(Object)
+     */
+    AsyncAssertAll usingWaitMutex(Object waitMutex);
+
+    /**
+     * Configures conditions to use given signal for check interval wait logic.
+     *
+     * @param signal signal object
+     * @return new {@link AsyncAssertAll} using given signal
+     * @see AsyncAssert#usingSignal(AsyncSignal)
+     */
+    AsyncAssertAll usingSignal(AsyncSignal signal);
+
+    /**
+     * Awaits, until all configured conditions are passed or timeout is exceeded.
+     * <p>
+     * All conditions are checked in single loop against single timeout.
+     * The passed conditions are not checked anymore, so each check evaluates only the pending ones.
+     * After exceeding timeout {@link AssertionError} will be thrown with last failures of all pending conditions, labeled with condition name.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAll(Duration.ofSeconds(5))
+     *     .condition("database", async -> async.assertThat(database.isReady()).isTrue())
+     *     .condition("cache", async -> async.assertThat(cache.size()).isEqualTo(expectedSize))
+     *     .untilAllPassed();
+     * }</pre>
+     */
+    void untilAllPassed();
+}
@@ -0,0 +1,235 @@
+package com.webfleet.assertj;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.SoftAssertions;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class AsyncAssertAllImpl implements AsyncAssertAll
+{
+    private final AsyncAssertImpl asyncAssert;
+    private final Map<String, Consumer<SoftAssertions>> conditions;
+    private final Executor executor;
+
+    AsyncAssertAllImpl(@NonNull final AsyncAssertImpl asyncAssert)
+    {
+        this(asyncAssert, emptyMap(), null);
+    }
+
+    @Override
+    public AsyncAssertAll condition(@NonNull final String name, @NonNull final Consumer<SoftAssertions> assertionsConfigurer)
+    {
+        if (conditions.containsKey(name))
+        {
+            throw new IllegalArgumentException("condition name must be unique");
+        }
+        final var withCondition = new LinkedHashMap<>(conditions);
+        withCondition.put(name, assertionsConfigurer);
+        return new AsyncAssertAllImpl(asyncAssert, unmodifiableMap(withCondition), executor);
+    }
+
+    @Override
+    public AsyncAssertAll inParallel(@NonNull final Executor executor)
+    {
+        return new AsyncAssertAllImpl(asyncAssert, conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll withCheckInterval(@NonNull final Duration checkInterval)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.withCheckInterval(checkInterval), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll withBackoff(@NonNull final BackoffStrategy backoff)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.withBackoff(backoff), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll withCheckTimeout(@NonNull final Duration checkTimeout)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.withCheckTimeout(checkTimeout), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll withWaitStrategy(@NonNull final WaitStrategy waitStrategy)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.withWaitStrategy(waitStrategy), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll reusingSoftAssertions()
+    {
+        return new AsyncAssertAllImpl(asyncAssert.reusingSoftAssertions(), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll withListener(@NonNull final AsyncAssertListener listener)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.withListener(listener), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll usingClock(@NonNull final AsyncClock clock)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.usingClock(clock), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll usingWaitMutex(@NonNull final Object waitMutex)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.usingWaitMutex(waitMutex), conditions, executor);
+    }
+
+    @Override
+    public AsyncAssertAll usingSignal(@NonNull final AsyncSignal signal)
+    {
+        return new AsyncAssertAllImpl(asyncAssert.usingSignal(signal), conditions, executor);
+    }
+
+    @Override
+    public void untilAllPassed()
+    {
+        if (conditions.isEmpty())
+        {
+            throw new IllegalStateException("at least one condition must be configured");
+        }
+        final var pendingConditions = new LinkedHashMap<>(conditions);
+        if (executor == null)
+        {
+            final var softAssertions = asyncAssert.softAssertions();
+            asyncAssert.await(() -> checkPendingConditions(pendingConditions, softAssertions));
+            return;
+        }
+        // the conditions are evaluated concurrently, so each one needs its own soft assertions
+        final var softAssertions = new HashMap<String, Supplier<CollectingSoftAssertions>>();
+        conditions.keySet().forEach(name -> softAssertions.put(name, asyncAssert.softAssertions()));
+        asyncAssert.await(() -> checkPendingConditionsInParallel(pendingConditions, softAssertions, executor));
+    }
+
+    private static AsyncAssertResult checkPendingConditions(final Map<String, Consumer<SoftAssertions>> pendingConditions,
+                                                            final Supplier<CollectingSoftAssertions> softAssertions)
+    {
+        final var results = new LinkedHashMap<String, AsyncAssertResult>();
+        final var iterator = pendingConditions.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final var condition = iterator.next();
+            final var result = AsyncAssertResult.evaluate(condition.getValue(), softAssertions.get());
+            if (result.hasFailed())
+            {
+                results.put(condition.getKey(), result);
+            }
+            else
+            {
+                iterator.remove();
+            }
+        }
+        return AsyncAssertResult.grouped(results);
+    }
+
+    private static AsyncAssertResult checkPendingConditionsInParallel(final Map<String, Consumer<SoftAssertions>> pendingConditions,
+                                                                      final Map<String, Supplier<CollectingSoftAssertions>> softAssertions,
+                                                                      final Executor executor)
+    {
+        final var evaluations = new LinkedHashMap<String, CompletableFuture<AsyncAssertResult>>();
+        final var iterator = pendingConditions.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final var condition = iterator.next();
+            final var conditionAssertions = softAssertions.get(condition.getKey());
+            if (iterator.hasNext())
+            {
+                evaluations.put(condition.getKey(), submittedEvaluation(condition.getValue(), conditionAssertions, executor));
+            }
+            else
+            {
+                evaluations.put(condition.getKey(), completedEvaluation(condition.getValue(), conditionAssertions));
+            }
+        }
+        // the round ends when all its evaluations end, so the conditions of the next round never overlap with the ones still running
+        CompletableFuture.allOf(evaluations.values().toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+        evaluations.values().forEach(AsyncAssertAllImpl::join);
+        final var results = new LinkedHashMap<String, AsyncAssertResult>();
+        evaluations.forEach((name, evaluation) -> {
+            final var result = evaluation.join();
+            if (result.hasFailed())
+            {
+                results.put(name, result);
+            }
+            else
+            {
+                pendingConditions.remove(name);
+            }
+        });
+        return AsyncAssertResult.grouped(results);
+    }
+
+    private static CompletableFuture<AsyncAssertResult> submittedEvaluation(final Consumer<SoftAssertions> condition,
+                                                                            final Supplier<CollectingSoftAssertions> softAssertions,
+                                                                            final Executor executor)
+    {
+        try
+        {
+            return CompletableFuture.supplyAsync(() -> AsyncAssertResult.evaluate(condition, softAssertions.get()), executor);
+        }
+        catch (final RuntimeException e)
+        {
+            // rejected by the executor, reported once the evaluations submitted before end
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static CompletableFuture<AsyncAssertResult> completedEvaluation(final Consumer<SoftAssertions> condition,
+                                                                            final Supplier<CollectingSoftAssertions> softAssertions)
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(AsyncAssertResult.evaluate(condition, softAssertions.get()));
+        }
+        catch (final RuntimeException | Error e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits for the condition evaluation, rethrowing the exception of the condition the same way as the condition evaluated by awaiting thread.
+     */
+    private static AsyncAssertResult join(final CompletableFuture<AsyncAssertResult> evaluation)
+    {
+        try
+        {
+            return evaluation.join();
+        }
+        catch (final CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+
+
+/**
+ * Asynchronous assertion of multiple named candidate conditions, passing as soon as any of them is passed.
+ */
+public interface AsyncAssertAny
+{
+    /**
+     * Adds named candidate condition.
+     * <p>
+     * The condition is configured in lambda consumer of {@link SoftAssertions} object, the same way as in {@link AsyncAssert#untilAssertions}.
+     * The candidates are checked in the order of adding.
+     *
+     * @param name unique name of the condition, returned when the condition is passed and used in failure messages
+     * @param assertionsConfigurer lambda consumer configuring {@link SoftAssertions} object
+     * @return new {@link AsyncAssertAny} with added condition
+     */
+    AsyncAssertAny condition(String name, Consumer<SoftAssertions> assertionsConfigurer);
+
+    /**
+     * Configures the interval to be waited between conditions checks.
+     * The interval must be greater than zero and lower than timeout.
+     *
+     * @param checkInterval check interval
+     * @return new {@link AsyncAssertAny} with set check interval
+     * @see AsyncAssert#withCheckInterval(Duration)
+     */
+    AsyncAssertAny withCheckInterval(Duration checkInterval);
+
+    /**
+     * Configures the strategy computing the interval to be waited after each failed conditions check.
+     *
+     * @param backoff backoff strategy
+     * @return new {@link AsyncAssertAny} with set backoff strategy
+     * @see AsyncAssert#withBackoff(BackoffStrategy)
+     */
+    AsyncAssertAny withBackoff(BackoffStrategy backoff);
+
+    /**
+     * Configures the time limit of single conditions check.
+     *
+     * @param checkTimeout time limit of single check
+     * @return new {@link AsyncAssertAny} with set check timeout
+     * @see AsyncAssert#withCheckTimeout(Duration)
+     */
+    AsyncAssertAny withCheckTimeout(Duration checkTimeout);
+
+    /**
+     * Configures the strategy of waiting the check interval in between conditions checks.
+     *
+     * @param waitStrategy wait strategy
+     * @return new {@link AsyncAssertAny} with set wait strategy
+     * @see AsyncAssert#withWaitStrategy(WaitStrategy)
+     */
+    AsyncAssertAny withWaitStrategy(WaitStrategy waitStrategy);
+
+    /**
+     * Configures single {@link SoftAssertions} instance to be reused by all checks of the conditions.
+     *
+     * @return new {@link AsyncAssertAny} reusing soft assertions
+     * @see AsyncAssert#reusingSoftAssertions()
+     */
+    AsyncAssertAny reusingSoftAssertions();
+
+    /**
+     * Registers the listener notified about the checks and waits of these conditions only.
+     *
+     * @param listener the listener
+     * @return new {@link AsyncAssertAny} with added listener
+     * @see AsyncAssert#withListener(AsyncAssertListener)
+     */
+    AsyncAssertAny withListener(AsyncAssertListener listener);
+
+    /**
+     * Configures the clock measuring the timeout and waiting the check intervals of the conditions.
+     *
+     * @param clock the clock
+     * @return new {@link AsyncAssertAny} using given clock
+     * @see AsyncAssert#usingClock(AsyncClock)
+     */
+    AsyncAssertAny usingClock(AsyncClock clock);
+
+    /**
+     * Configures conditions to use given mutex object for check interval wait logic.
+     *
+     * @param waitMutex mutex object
+     * @return new {@link AsyncAssertAny} using given wait mutex
+     * @see AsyncAssert#usingWaitMutex(Object)
+     */
+    AsyncAssertAny usingWaitMutex(Object waitMutex);
+
+    /**
+     * Configures conditions to use given signal for check interval wait logic.
+     *
+     * @param signal signal object
+     * @return new {@link AsyncAssertAny} using given signal
+     * @see AsyncAssert#usingSignal(AsyncSignal)
+     */
+    AsyncAssertAny usingSignal(AsyncSignal signal);
+
+    /**
+     * Awaits, until any of configured conditions is passed or timeout is exceeded.
+     * <p>
+     * On each check the conditions are evaluated in the order of adding, until the first passed condition.
+     * After exceeding timeout {@link AssertionError} will be thrown with last failures of all conditions, labeled with condition name.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * var passedCondition = awaitAny(Duration.ofSeconds(5))
+     *     .condition("primary", async -> async.assertThat(primary.isDone()).isTrue())
+     *     .condition("fallback", async -> async.assertThat(fallback.isDone()).isTrue())
+     *     .untilAnyPassed();
+     * }</pre>
+     *
+     * @return name of the passed condition
+     */
+    String untilAnyPassed();
+}
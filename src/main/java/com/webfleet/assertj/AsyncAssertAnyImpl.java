@@ -0,0 +1,125 @@
+package com.webfleet.assertj;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.SoftAssertions;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class AsyncAssertAnyImpl implements AsyncAssertAny
+{
+    private final AsyncAssertImpl asyncAssert;
+    private final Map<String, Consumer<SoftAssertions>> conditions;
+
+    AsyncAssertAnyImpl(@NonNull final AsyncAssertImpl asyncAssert)
+    {
+        this(asyncAssert, emptyMap());
+    }
+
+    @Override
+    public AsyncAssertAny condition(@NonNull final String name, @NonNull final Consumer<SoftAssertions> assertionsConfigurer)
+    {
+        if (conditions.containsKey(name))
+        {
+            throw new IllegalArgumentException("condition name must be unique");
+        }
+        final var withCondition = new LinkedHashMap<>(conditions);
+        withCondition.put(name, assertionsConfigurer);
+        return new AsyncAssertAnyImpl(asyncAssert, unmodifiableMap(withCondition));
+    }
+
+    @Override
+    public AsyncAssertAny withCheckInterval(@NonNull final Duration checkInterval)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.withCheckInterval(checkInterval), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny withBackoff(@NonNull final BackoffStrategy backoff)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.withBackoff(backoff), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny withCheckTimeout(@NonNull final Duration checkTimeout)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.withCheckTimeout(checkTimeout), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny withWaitStrategy(@NonNull final WaitStrategy waitStrategy)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.withWaitStrategy(waitStrategy), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny reusingSoftAssertions()
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.reusingSoftAssertions(), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny withListener(@NonNull final AsyncAssertListener listener)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.withListener(listener), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny usingClock(@NonNull final AsyncClock clock)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.usingClock(clock), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny usingWaitMutex(@NonNull final Object waitMutex)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.usingWaitMutex(waitMutex), conditions);
+    }
+
+    @Override
+    public AsyncAssertAny usingSignal(@NonNull final AsyncSignal signal)
+    {
+        return new AsyncAssertAnyImpl(asyncAssert.usingSignal(signal), conditions);
+    }
+
+    @Override
+    public String untilAnyPassed()
+    {
+        if (conditions.isEmpty())
+        {
+            throw new IllegalStateException("at least one condition must be configured");
+        }
+        final var passedCondition = new AtomicReference<String>();
+        final var softAssertions = asyncAssert.softAssertions();
+        asyncAssert.await(() -> checkConditions(passedCondition, softAssertions));
+        return passedCondition.get();
+    }
+
+    private AsyncAssertResult checkConditions(final AtomicReference<String> passedCondition, final Supplier<CollectingSoftAssertions> softAssertions)
+    {
+        final var results = new LinkedHashMap<String, AsyncAssertResult>();
+        for (final var condition : conditions.entrySet())
+        {
+            final var result = AsyncAssertResult.evaluate(condition.getValue(), softAssertions.get());
+            if (!result.hasFailed())
+            {
+                passedCondition.set(condition.getKey());
+                return result;
+            }
+            results.put(condition.getKey(), result);
+        }
+        return AsyncAssertResult.grouped(results);
+    }
+}
@@ -3,6 +3,7 @@ package com.webfleet.assertj;
 import static java.time.Duration.ZERO;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 import com.webfleet.assertj.Time.ElapsedTime;
 
@@ -27,6 +28,10 @@ final class AsyncAssertAwaitConfig
 
     private final Duration timeout;
     private final Duration checkInterval;
+    private final BackoffStrategy backoff;
+    private final WaitStrategy waitStrategy;
+    private final boolean softAssertionsReused;
+    private final Duration checkTimeout;
 
     static AsyncAssertAwaitConfig withTimeout(@NonNull final Duration timeout)
     {
@@ -35,7 +40,7 @@ final class AsyncAssertAwaitConfig
             throw new IllegalArgumentException("timeout must be greater than zero");
         }
         final var checkInterval = computeCheckInterval(timeout);
-        return new AsyncAssertAwaitConfig(timeout, checkInterval);
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, BackoffStrategy.fixed(checkInterval), WaitStrategy.blocking(), false, null);
     }
 
     AsyncAssertAwaitConfig withCheckInterval(@NonNull final Duration checkInterval)
@@ -48,18 +53,66 @@ final class AsyncAssertAwaitConfig
         {
             throw new IllegalArgumentException("checkInterval must be lower than or equal to timeout");
         }
-        return new AsyncAssertAwaitConfig(timeout, checkInterval);
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, BackoffStrategy.fixed(checkInterval), waitStrategy, softAssertionsReused, checkTimeout);
+    }
+
+    AsyncAssertAwaitConfig withBackoff(@NonNull final BackoffStrategy backoff)
+    {
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, backoff, waitStrategy, softAssertionsReused, checkTimeout);
+    }
+
+    AsyncAssertAwaitConfig withWaitStrategy(@NonNull final WaitStrategy waitStrategy)
+    {
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, backoff, waitStrategy, softAssertionsReused, checkTimeout);
+    }
+
+    AsyncAssertAwaitConfig withSoftAssertionsReused()
+    {
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, backoff, waitStrategy, true, checkTimeout);
+    }
+
+    AsyncAssertAwaitConfig withCheckTimeout(@NonNull final Duration checkTimeout)
+    {
+        if (checkTimeout.compareTo(ZERO) <= 0)
+        {
+            throw new IllegalArgumentException("checkTimeout must be greater than zero");
+        }
+        return new AsyncAssertAwaitConfig(timeout, checkInterval, backoff, waitStrategy, softAssertionsReused, checkTimeout);
+    }
+
+    /**
+     * Creates the source of soft assertions used by the checks of single await.
+     *
+     * @return supplier of single reused instance if configured, otherwise supplier of new instance for each check
+     */
+    Supplier<CollectingSoftAssertions> softAssertions()
+    {
+        return softAssertionsReused ? new CollectingSoftAssertions()::reset : CollectingSoftAssertions::new;
+    }
+
+    /**
+     * Creates the sequence of check intervals computed with configured backoff strategy for single await.
+     *
+     * @return new check interval sequence
+     */
+    CheckIntervals checkIntervals()
+    {
+        return new CheckIntervals();
     }
 
     Duration checkInterval(@NonNull final ElapsedTime elapsedTime)
     {
-        final var elapsedDuration = elapsedTime.get();
-        if (elapsedDuration.plus(checkInterval).compareTo(timeout) > 0)
+        return checkInterval(elapsedTime, checkInterval);
+    }
+
+    Duration checkInterval(@NonNull final ElapsedTime elapsedTime, @NonNull final Duration interval)
+    {
+        final var remainingNanos = timeout.toNanos() - elapsedTime.nanos();
+        if (interval.toNanos() > remainingNanos)
         {
-            final var shortenedCheckInterval = timeout.minus(elapsedDuration);
-            return shortenedCheckInterval.isNegative() ? Duration.ZERO : shortenedCheckInterval;
+            return remainingNanos > 0L ? Duration.ofNanos(remainingNanos) : ZERO;
         }
-        return checkInterval;
+        return interval;
     }
 
     private static Duration computeCheckInterval(final Duration timeout)
@@ -74,4 +127,26 @@ final class AsyncAssertAwaitConfig
         }
         return DEFAULT_CHECK_INTERVAL;
     }
+
+    /**
+     * Check intervals of single await, computed with the backoff strategy after each failed check.
+     * The interval is shortened to not exceed the timeout.
+     */
+    final class CheckIntervals
+    {
+        private int failedChecks;
+        private Duration previousInterval = ZERO;
+
+        Duration next(@NonNull final ElapsedTime elapsedTime)
+        {
+            failedChecks++;
+            final var interval = backoff.nextInterval(failedChecks, previousInterval);
+            if (interval == null || interval.compareTo(ZERO) <= 0)
+            {
+                throw new IllegalStateException("backoff strategy must return interval greater than zero");
+            }
+            previousInterval = interval;
+            return checkInterval(elapsedTime, interval);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+
+/**
+ * Context of single await reported to {@link AsyncAssertListener}.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Accessors(fluent = true)
+@ToString
+public final class AsyncAssertContext
+{
+    /**
+     * The timeout of the await.
+     */
+    @Getter
+    private final Duration timeout;
+
+    /**
+     * The initial check interval of the await.
+     */
+    @Getter
+    private final Duration checkInterval;
+
+    private final StackTraceElement callSite;
+
+    /**
+     * Whether the await verifies that the assertions keep passing for the whole timeout, started with {@link AsyncAssert#during}.
+     * Such await always takes the whole timeout when passed.
+     */
+    @Getter
+    private final boolean stability;
+
+    /**
+     * Returns the first stack frame outside this library, which started the await - usually the test method.
+     *
+     * @return the call site of the await, empty if it couldn't be determined
+     */
+    public Optional<StackTraceElement> callSite()
+    {
+        return Optional.ofNullable(callSite);
+    }
+}
@@ -1,13 +1,33 @@
 package com.webfleet.assertj;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.SoftAssertions;
 
+import com.webfleet.assertj.AsyncAssertAwaitConfig.CheckIntervals;
+import com.webfleet.assertj.Time.ElapsedTime;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -16,43 +36,501 @@ final class AsyncAssertImpl implements AsyncAssert
     private final Time time;
     private final AsyncAssertAwaitConfig config;
     private final Object waitMutex;
+    private final Flow.Publisher<?> publisher;
+    private final List<AsyncAssertListener> listeners;
 
     AsyncAssertImpl(@NonNull final Time time, @NonNull final AsyncAssertAwaitConfig config)
     {
-        this(time, config, new Object());
+        this(time, config, new DefaultWaitMutex(), null, List.of());
+    }
+
+    @Override
+    public AsyncAssertImpl withCheckInterval(@NonNull final Duration checkInterval)
+    {
+        return new AsyncAssertImpl(time, config.withCheckInterval(checkInterval), waitMutex, publisher, listeners);
+    }
+
+    @Override
+    public AsyncAssertImpl withBackoff(@NonNull final BackoffStrategy backoff)
+    {
+        return new AsyncAssertImpl(time, config.withBackoff(backoff), waitMutex, publisher, listeners);
+    }
+
+    @Override
+    public AsyncAssertImpl withCheckTimeout(@NonNull final Duration checkTimeout)
+    {
+        return new AsyncAssertImpl(time, config.withCheckTimeout(checkTimeout), waitMutex, publisher, listeners);
+    }
+
+    @Override
+    public AsyncAssertImpl withWaitStrategy(@NonNull final WaitStrategy waitStrategy)
+    {
+        return new AsyncAssertImpl(time, config.withWaitStrategy(waitStrategy), waitMutex, publisher, listeners);
+    }
+
+    @Override
+    public AsyncAssertImpl reusingSoftAssertions()
+    {
+        return new AsyncAssertImpl(time, config.withSoftAssertionsReused(), waitMutex, publisher, listeners);
+    }
+
+    @Override
+    public AsyncAssertImpl usingWaitMutex(@NonNull final Object waitMutex)
+    {
+        return supportedByClock(new AsyncAssertImpl(time, config, waitMutex, publisher, listeners));
     }
 
     @Override
-    public AsyncAssert withCheckInterval(@NonNull final Duration checkInterval)
+    public AsyncAssertImpl usingSignal(@NonNull final AsyncSignal signal)
     {
-        return new AsyncAssertImpl(time, config.withCheckInterval(checkInterval), waitMutex);
+        return supportedByClock(new AsyncAssertImpl(time, config, signal, publisher, listeners));
     }
 
     @Override
-    public AsyncAssert usingWaitMutex(@NonNull final Object waitMutex)
+    public AsyncAssertImpl onEach(@NonNull final Flow.Publisher<?> publisher)
     {
-        return new AsyncAssertImpl(time, config, waitMutex);
+        return supportedByClock(new AsyncAssertImpl(time, config, waitMutex, publisher, listeners));
+    }
+
+    @Override
+    public AsyncAssertImpl withListener(@NonNull final AsyncAssertListener listener)
+    {
+        final var extendedListeners = new ArrayList<>(listeners);
+        extendedListeners.add(listener);
+        return new AsyncAssertImpl(time, config, waitMutex, publisher, List.copyOf(extendedListeners));
+    }
+
+    @Override
+    public AsyncAssertImpl usingClock(@NonNull final AsyncClock clock)
+    {
+        return supportedByClock(new AsyncAssertImpl(ClockTime.of(clock), config, waitMutex, publisher, listeners));
+    }
+
+    /**
+     * Rejects the wait mutex, signal and publisher combined with custom clock, which waits the check intervals without the notifications.
+     */
+    private static AsyncAssertImpl supportedByClock(final AsyncAssertImpl asyncAssert)
+    {
+        final var notified = asyncAssert.publisher != null || !(asyncAssert.waitMutex instanceof DefaultWaitMutex);
+        if (notified && asyncAssert.time instanceof ClockTime)
+        {
+            throw new IllegalStateException("wait mutex, signal and publisher are not supported with custom clock");
+        }
+        return asyncAssert;
     }
 
     @Override
     public void untilAssertions(@NonNull final Consumer<SoftAssertions> assertionsConfigurer)
     {
+        final var softAssertions = config.softAssertions();
+        await(() -> AsyncAssertResult.evaluate(assertionsConfigurer, softAssertions.get()));
+    }
+
+    @Override
+    public CompletableFuture<Void> untilAssertionsAsync(@NonNull final Consumer<SoftAssertions> assertionsConfigurer)
+    {
+        final var softAssertions = config.softAssertions();
+        return awaitAsync(() -> AsyncAssertResult.evaluate(assertionsConfigurer, softAssertions.get()));
+    }
+
+    @Override
+    public void untilLatchedAssertions(@NonNull final Consumer<LatchedAssertions> assertionsConfigurer)
+    {
+        await(new LatchedAssertionsCheck(assertionsConfigurer, config.softAssertions()));
+    }
+
+    @Override
+    public void during(@NonNull final Consumer<SoftAssertions> assertionsConfigurer)
+    {
+        final var softAssertions = config.softAssertions();
+        awaitStable(() -> AsyncAssertResult.evaluate(assertionsConfigurer, softAssertions.get()));
+    }
+
+    @Override
+    public void until(@NonNull final BooleanSupplier condition)
+    {
+        await(conditionCheck(condition));
+    }
+
+    @Override
+    public <T> void until(@NonNull final Supplier<T> valueSupplier, @NonNull final Predicate<? super T> predicate)
+    {
+        await(valueCheck(valueSupplier, predicate));
+    }
+
+    @Override
+    public void untilLong(@NonNull final LongSupplier valueSupplier, @NonNull final LongPredicate predicate)
+    {
+        await(longCheck(valueSupplier, predicate));
+    }
+
+    @Override
+    public void untilInt(@NonNull final IntSupplier valueSupplier, @NonNull final IntPredicate predicate)
+    {
+        await(longCheck(valueSupplier::getAsInt, value -> predicate.test((int) value)));
+    }
+
+    @Override
+    public void untilDouble(@NonNull final DoubleSupplier valueSupplier, @NonNull final DoublePredicate predicate)
+    {
+        await(doubleCheck(valueSupplier, predicate));
+    }
+
+    /**
+     * Creates the check of the condition without allocations, sharing single failed result by all checks.
+     */
+    static Supplier<AsyncAssertResult> conditionCheck(final BooleanSupplier condition)
+    {
+        final var failed = AsyncAssertResult.failed(async -> async.assertThat(false).isTrue());
+        return () -> condition.getAsBoolean() ? AsyncAssertResult.passed() : failed;
+    }
+
+    /**
+     * Creates the check of the value without allocations, remembering the last value to be described by the failed result.
+     */
+    static <T> Supplier<AsyncAssertResult> valueCheck(final Supplier<T> valueSupplier, final Predicate<? super T> predicate)
+    {
+        final var lastValue = new AtomicReference<T>();
+        final var failed = AsyncAssertResult.failed(async -> async.assertThat(lastValue.get()).matches(predicate));
+        return () -> {
+            final var value = valueSupplier.get();
+            if (predicate.test(value))
+            {
+                return AsyncAssertResult.passed();
+            }
+            lastValue.set(value);
+            return failed;
+        };
+    }
+
+    /**
+     * Creates the check of the {@code long} value without boxing, remembering the last and the highest value for the failed result.
+     */
+    static Supplier<AsyncAssertResult> longCheck(final LongSupplier valueSupplier, final LongPredicate predicate)
+    {
+        final var observed = new ObservedLong();
+        final var failed = AsyncAssertResult.failed(async -> async.assertThat(observed.last)
+            .as("highest observed value: %s", observed.highest)
+            .matches(value -> predicate.test(value)));
+        return () -> {
+            final var value = valueSupplier.getAsLong();
+            if (predicate.test(value))
+            {
+                return AsyncAssertResult.passed();
+            }
+            observed.observe(value);
+            return failed;
+        };
+    }
+
+    /**
+     * Creates the check of the {@code double} value without boxing, remembering the last and the highest value for the failed result.
+     */
+    static Supplier<AsyncAssertResult> doubleCheck(final DoubleSupplier valueSupplier, final DoublePredicate predicate)
+    {
+        final var observed = new ObservedDouble();
+        final var failed = AsyncAssertResult.failed(async -> async.assertThat(observed.last)
+            .as("highest observed value: %s", observed.highest)
+            .matches(value -> predicate.test(value)));
+        return () -> {
+            final var value = valueSupplier.getAsDouble();
+            if (predicate.test(value))
+            {
+                return AsyncAssertResult.passed();
+            }
+            observed.observe(value);
+            return failed;
+        };
+    }
+
+    Supplier<CollectingSoftAssertions> softAssertions()
+    {
+        return config.softAssertions();
+    }
+
+    void await(final Supplier<AsyncAssertResult> check)
+    {
+        if (publisher != null)
+        {
+            awaitPublished(check);
+            return;
+        }
         final var elapsedTime = time.measure();
-        final var waitCondition = time.waitCondition(waitMutex);
+        final var timedCheck = TimedCheck.of(check, config, time, elapsedTime);
+        final var waitCondition = config.waitStrategy().apply(time.waitCondition(waitMutex));
+        final var checkIntervals = config.checkIntervals();
+        final var observer = AwaitObserver.start(config, listeners, elapsedTime);
 
-        var result = AsyncAssertResult.undefined();
-        while (result.hasFailed() && elapsedTime.isLowerThanOrEqualTo(config.timeout()) && !Thread.currentThread().isInterrupted())
+        try
         {
-            result = AsyncAssertResult.evaluate(assertionsConfigurer);
+            var result = AsyncAssertResult.undefined();
+            while (result.hasFailed() && elapsedTime.isLowerThanOrEqualTo(config.timeout()) && !Thread.currentThread().isInterrupted())
+            {
+                result = observer.check(timedCheck);
+                if (result.hasFailed())
+                {
+                    if (!elapsedTime.isLowerThan(config.timeout()))
+                    {
+                        break;
+                    }
+                    observer.waitFor(waitCondition, checkIntervals.next(elapsedTime));
+                }
+            }
+            if (result.hasFailed())
+            {
+                final var error = result.createError(config);
+                observer.timeout(error);
+                throw error;
+            }
+            observer.success();
+        }
+        catch (final RuntimeException | Error e)
+        {
+            observer.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks the assertions until the timeout, failing immediately on the first failed check.
+     */
+    void awaitStable(final Supplier<AsyncAssertResult> check)
+    {
+        if (publisher != null)
+        {
+            throw new IllegalStateException("publisher driven checks are not supported by stability assertion");
+        }
+        final var elapsedTime = time.measure();
+        final var timedCheck = TimedCheck.of(check, config, time, elapsedTime);
+        final var waitCondition = config.waitStrategy().apply(time.waitCondition(waitMutex));
+        final var observer = AwaitObserver.start(config, listeners, elapsedTime, true);
+
+        try
+        {
+            var result = observer.check(timedCheck);
+            while (!result.hasFailed() && elapsedTime.isLowerThan(config.timeout()) && !Thread.currentThread().isInterrupted())
+            {
+                observer.waitFor(waitCondition, config.checkInterval(elapsedTime));
+                result = observer.check(timedCheck);
+            }
+            if (result.hasFailed())
+            {
+                final var error = result.createError(String.format("Async assertion failed after %dms of %dms stability period",
+                    elapsedTime.get().toMillis(), config.timeout().toMillis()));
+                observer.timeout(error);
+                throw error;
+            }
+            if (elapsedTime.isLowerThan(config.timeout()))
+            {
+                final var error = new AssertionError(String.format("Async assertion stability was verified only for %dms of %dms period, "
+                    + "the thread was interrupted", elapsedTime.get().toMillis(), config.timeout().toMillis()));
+                observer.timeout(error);
+                throw error;
+            }
+            observer.success();
+        }
+        catch (final RuntimeException | Error e)
+        {
+            observer.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks the assertions only when the publisher emits an element or terminates, without timed checks in between.
+     * Terminated publisher doesn't change the state anymore, so the failed check started after termination fails the await immediately.
+     * The check started before termination may miss the last state change, so it's followed by one more check.
+     */
+    private void awaitPublished(final Supplier<AsyncAssertResult> check)
+    {
+        final var elapsedTime = time.measure();
+        final var timedCheck = TimedCheck.of(check, config, time, elapsedTime);
+        final var publisherSignal = new PublisherSignal();
+        final var waitCondition = time.waitCondition(publisherSignal.signal());
+        final var observer = AwaitObserver.start(config, listeners, elapsedTime);
+        publisher.subscribe(publisherSignal);
+        try
+        {
+            var terminatedBeforeCheck = publisherSignal.isTerminated();
+            var result = observer.check(timedCheck);
+            while (result.hasFailed() && !terminatedBeforeCheck && elapsedTime.isLowerThan(config.timeout())
+                && !Thread.currentThread().isInterrupted())
+            {
+                if (!publisherSignal.isTerminated())
+                {
+                    publisherSignal.requestNext();
+                    observer.waitFor(waitCondition, config.checkInterval(elapsedTime, config.timeout()));
+                }
+                terminatedBeforeCheck = publisherSignal.isTerminated();
+                result = observer.check(timedCheck);
+            }
             if (result.hasFailed())
             {
-                if (!elapsedTime.isLowerThan(config.timeout()))
+                final var error = terminatedBeforeCheck
+                    ? createPublisherTerminatedError(result, publisherSignal.error())
+                    : result.createError(config);
+                observer.timeout(error);
+                throw error;
+            }
+            observer.success();
+        }
+        catch (final RuntimeException | Error e)
+        {
+            observer.failure(e);
+            throw e;
+        }
+        finally
+        {
+            publisherSignal.cancel();
+        }
+    }
+
+    private static AssertionError createPublisherTerminatedError(final AsyncAssertResult result, final Throwable publisherError)
+    {
+        if (publisherError == null)
+        {
+            return result.createError("Async assertion failed after publisher completion");
+        }
+        final var error = result.createError("Async assertion failed after publisher error: " + publisherError);
+        error.addSuppressed(publisherError);
+        return error;
+    }
+
+    CompletableFuture<Void> awaitAsync(final Supplier<AsyncAssertResult> check)
+    {
+        if (publisher != null)
+        {
+            throw new IllegalStateException("publisher driven checks are not supported by asynchronous await");
+        }
+        final var future = new CompletableFuture<Void>();
+        final var elapsedTime = time.measure();
+        final var observer = AwaitObserver.start(config, listeners, elapsedTime);
+        final var timedCheck = TimedCheck.of(check, config, time, elapsedTime);
+        time.schedule(new AsyncCheck(timedCheck, elapsedTime, config.checkIntervals(), observer, future), Duration.ZERO);
+        return future;
+    }
+
+    /**
+     * Wait mutex of the await without configured one, never notified.
+     */
+    private static final class DefaultWaitMutex
+    {
+    }
+
+    /**
+     * Values observed by the failed checks of single await, which are executed by single thread.
+     */
+    private static final class ObservedLong
+    {
+        private long last;
+        private long highest = Long.MIN_VALUE;
+
+        private void observe(final long value)
+        {
+            last = value;
+            highest = Math.max(highest, value);
+        }
+    }
+
+    private static final class ObservedDouble
+    {
+        private double last;
+        private double highest = Double.NEGATIVE_INFINITY;
+
+        private void observe(final double value)
+        {
+            last = value;
+            if (value > highest)
+            {
+                highest = value;
+            }
+        }
+    }
+
+    /**
+     * Single check of asynchronous await, re-scheduling itself with check interval delay until success or timeout.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private final class AsyncCheck implements Runnable
+    {
+        private final Supplier<AsyncAssertResult> check;
+        private final ElapsedTime elapsedTime;
+        private final CheckIntervals checkIntervals;
+        private final AwaitObserver observer;
+        private final CompletableFuture<Void> future;
+        private AsyncAssertResult result = AsyncAssertResult.undefined();
+
+        @Override
+        public void run()
+        {
+            if (future.isDone())
+            {
+                // cancelled by the caller
+                observer.failure(new CancellationException("async assertion cancelled"));
+                return;
+            }
+            try
+            {
+                observer.waitEnded();
+                if (elapsedTime.isLowerThanOrEqualTo(config.timeout()))
+                {
+                    if (check instanceof TimedCheck)
+                    {
+                        // the timed check is evaluated by the worker, so the shared timer thread is not blocked
+                        final var startNanos = observer.checkStarted();
+                        ((TimedCheck) check).getAsync().whenComplete((checkResult, error) -> {
+                            if (error != null)
+                            {
+                                fail(error instanceof CompletionException ? error.getCause() : error);
+                                return;
+                            }
+                            result = observer.checkEnded(startNanos, checkResult);
+                            handleResult();
+                        });
+                        return;
+                    }
+                    result = observer.check(check);
+                }
+                handleResult();
+            }
+            catch (final RuntimeException | Error e)
+            {
+                fail(e);
+            }
+        }
+
+        private void handleResult()
+        {
+            try
+            {
+                if (!result.hasFailed())
+                {
+                    observer.success();
+                    future.complete(null);
+                }
+                else if (!elapsedTime.isLowerThan(config.timeout()))
+                {
+                    final var error = result.createError(config);
+                    observer.timeout(error);
+                    future.completeExceptionally(error);
+                }
+                else
                 {
-                    break;
+                    final var checkInterval = checkIntervals.next(elapsedTime);
+                    observer.waitStarted(checkInterval);
+                    time.schedule(this, checkInterval);
                 }
-                waitCondition.waitFor(config.checkInterval(elapsedTime));
             }
+            catch (final RuntimeException | Error e)
+            {
+                fail(e);
+            }
+        }
+
+        private void fail(final Throwable exception)
+        {
+            observer.failure(exception);
+            future.completeExceptionally(exception);
         }
-        result.throwOnFailure(config);
     }
 }
@@ -0,0 +1,98 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+
+
+/**
+ * Listener of asynchronous assertion awaits, notified about each assertions check and wait in between the checks.
+ * <p>
+ * The listener can be registered globally with {@link AsyncAssertions#addListener(AsyncAssertListener)}
+ * or for single assertion with {@link AsyncAssert#withListener(AsyncAssertListener)}.
+ * When no listener is registered, the checks are not measured at all.
+ * <p>
+ * The listener is called on the thread executing the checks, so it should be fast and thread-safe.
+ * Exceptions thrown by the listener are logged and ignored.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * AsyncAssertions.addListener(new AsyncAssertListener() {
+ *     @Override
+ *     public void onSuccess(AsyncAssertContext context, int checkCount, Duration elapsedTime)
+ *     {
+ *         if (elapsedTime.compareTo(context.timeout().dividedBy(2)) > 0)
+ *         {
+ *             LOG.warning("Await at " + context.callSite().orElse(null) + " used more than half of its timeout");
+ *         }
+ *     }
+ * });
+ * }</pre>
+ */
+public interface AsyncAssertListener
+{
+    /**
+     * Called before the first check of the await.
+     *
+     * @param context the await context
+     */
+    default void onStart(final AsyncAssertContext context)
+    {
+    }
+
+    /**
+     * Called after each assertions check.
+     *
+     * @param context        the await context
+     * @param checkNumber    the number of the check, starting from 1
+     * @param evaluationTime the time of the assertions evaluation
+     * @param passed         true if the assertions passed
+     */
+    default void onCheck(final AsyncAssertContext context, final int checkNumber, final Duration evaluationTime, final boolean passed)
+    {
+    }
+
+    /**
+     * Called after each wait in between the checks.
+     *
+     * @param context       the await context
+     * @param checkInterval the check interval to be waited
+     * @param waitTime      the time actually waited, which can be shorter when the wait was ended by a signal
+     */
+    default void onWait(final AsyncAssertContext context, final Duration checkInterval, final Duration waitTime)
+    {
+    }
+
+    /**
+     * Called when the assertions passed.
+     *
+     * @param context     the await context
+     * @param checkCount  the number of executed checks
+     * @param elapsedTime the time elapsed since the start of the await
+     */
+    default void onSuccess(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime)
+    {
+    }
+
+    /**
+     * Called when the await failed after exceeding the timeout, or earlier when the state can't change anymore.
+     *
+     * @param context     the await context
+     * @param checkCount  the number of executed checks
+     * @param elapsedTime the time elapsed since the start of the await
+     * @param error       the error reported by the await
+     */
+    default void onTimeout(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final AssertionError error)
+    {
+    }
+
+    /**
+     * Called when the await ended with the exception other than its assertion error, e.g. thrown by the assertions or the check executor.
+     *
+     * @param context     the await context
+     * @param checkCount  the number of executed checks
+     * @param elapsedTime the time elapsed since the start of the await
+     * @param exception   the exception ending the await
+     */
+    default void onFailure(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final Throwable exception)
+    {
+    }
+}
@@ -0,0 +1,119 @@
+package com.webfleet.assertj;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import lombok.extern.java.Log;
+
+
+/**
+ * JUnit Platform listener reporting the time spent by asynchronous assertions per test and per await call site.
+ * <p>
+ * The listener is registered automatically with the JUnit Platform launcher, but it's disabled by default.
+ * It's enabled with {@code assertj.async.report.enabled=true} configuration parameter, set e.g. in {@code junit-platform.properties}
+ * or as system property. At the end of the test run the {@code assertj-async-report.csv} and {@code assertj-async-report.json}
+ * files are written to the directory configured with {@code assertj.async.report.dir} parameter,
+ * by default {@code build/reports/assertj-async}.
+ * <p>
+ * The report contains the number of awaits, checks, the total wait time and the share of the timeout used until success.
+ * The awaits which regularly succeed with less than 10% of their timeout left are flagged with {@code NEAR_TIMEOUT},
+ * and the awaits which always pass on the first check with {@code FIRST_CHECK}.
+ * <p>
+ * The listener requires {@code junit-platform-launcher} in the classpath.
+ */
+@Log
+public final class AsyncAssertReportListener implements TestExecutionListener
+{
+    static final String ENABLED_PARAMETER = "assertj.async.report.enabled";
+    static final String DIRECTORY_PARAMETER = "assertj.async.report.dir";
+    static final String DEFAULT_DIRECTORY = "build/reports/assertj-async";
+    static final String REPORT_FILE_NAME = "assertj-async-report";
+
+    private volatile AwaitStatistics statistics;
+    private volatile Path reportDirectory;
+
+    @Override
+    public void testPlanExecutionStarted(final TestPlan testPlan)
+    {
+        final var parameters = testPlan.getConfigurationParameters();
+        if (!parameters.getBoolean(ENABLED_PARAMETER).orElse(false))
+        {
+            return;
+        }
+        reportDirectory = Path.of(parameters.get(DIRECTORY_PARAMETER).orElse(DEFAULT_DIRECTORY));
+        statistics = new AwaitStatistics();
+        AsyncAssertions.addListener(statistics);
+    }
+
+    @Override
+    public void executionStarted(final TestIdentifier testIdentifier)
+    {
+        final var currentStatistics = statistics;
+        if (currentStatistics != null && testIdentifier.isTest())
+        {
+            currentStatistics.testStarted(testName(testIdentifier));
+        }
+    }
+
+    @Override
+    public void executionFinished(final TestIdentifier testIdentifier, final TestExecutionResult testExecutionResult)
+    {
+        final var currentStatistics = statistics;
+        if (currentStatistics != null && testIdentifier.isTest())
+        {
+            currentStatistics.testFinished();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(final TestPlan testPlan)
+    {
+        final var currentStatistics = statistics;
+        if (currentStatistics == null)
+        {
+            return;
+        }
+        statistics = null;
+        AsyncAssertions.removeListener(currentStatistics);
+        writeReport(currentStatistics, reportDirectory);
+    }
+
+    static void writeReport(final AwaitStatistics statistics, final Path reportDirectory)
+    {
+        try
+        {
+            Files.createDirectories(reportDirectory);
+            try (var writer = Files.newBufferedWriter(reportDirectory.resolve(REPORT_FILE_NAME + ".csv"), StandardCharsets.UTF_8))
+            {
+                statistics.writeCsv(writer);
+            }
+            try (var writer = Files.newBufferedWriter(reportDirectory.resolve(REPORT_FILE_NAME + ".json"), StandardCharsets.UTF_8))
+            {
+                statistics.writeJson(writer);
+            }
+            LOG.info(() -> "Async assertions report written to " + reportDirectory.toAbsolutePath());
+        }
+        catch (final IOException e)
+        {
+            LOG.log(Level.WARNING, "Failed to write async assertions report to " + reportDirectory.toAbsolutePath(), e);
+        }
+    }
+
+    private static String testName(final TestIdentifier testIdentifier)
+    {
+        return testIdentifier.getSource()
+            .filter(MethodSource.class::isInstance)
+            .map(MethodSource.class::cast)
+            .map(source -> source.getClassName() + "#" + testIdentifier.getLegacyReportingName())
+            .orElseGet(testIdentifier::getUniqueId);
+    }
+}
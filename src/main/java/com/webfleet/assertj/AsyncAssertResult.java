@@ -1,8 +1,11 @@
 package com.webfleet.assertj;
 
-import static org.assertj.core.api.Assertions.catchThrowableOfType;
-
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.SoftAssertions;
 
@@ -11,28 +14,111 @@ import lombok.AllArgsConstructor;
 import lombok.NonNull;
 
 
+/**
+ * Result of single assertions check.
+ * <p>
+ * The failures of intermediate checks are discarded by the next check, so the result keeps only the errors collected by the assertions.
+ * The error reported to the user, with the messages of all collected errors decorated with line numbers, is created only on demand.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 final class AsyncAssertResult
 {
     private static final AssertionError UNDEFINED_ERROR = new AssertionError("Failed to evaluate async assertions");
+    private static final AsyncAssertResult PASSED = new AsyncAssertResult(null);
+    private static final AsyncAssertResult UNDEFINED = new AsyncAssertResult(() -> UNDEFINED_ERROR);
 
-    private final AssertionError error;
+    private final Supplier<AssertionError> error;
 
     static AsyncAssertResult undefined()
     {
-        return new AsyncAssertResult(UNDEFINED_ERROR);
+        return UNDEFINED;
+    }
+
+    static AsyncAssertResult passed()
+    {
+        return PASSED;
+    }
+
+    /**
+     * Creates failed result of the condition checked without {@link SoftAssertions}.
+     * The assertions describing the failure are evaluated only when the error is created, so the result can be shared by all checks.
+     *
+     * @param failureDescription assertions failing with the description of the unsatisfied condition
+     * @return failed result
+     */
+    static AsyncAssertResult failed(@NonNull final Consumer<SoftAssertions> failureDescription)
+    {
+        return new AsyncAssertResult(() -> {
+            final var result = evaluate(failureDescription);
+            return result.hasFailed() ? result.error.get() : new AssertionError("Expecting condition to be satisfied");
+        });
+    }
+
+    /**
+     * Creates failed result of the check interrupted after exceeding its time limit.
+     *
+     * @param limit      the exceeded time limit of the check
+     * @param stackTrace the stack trace of the thread evaluating the check at the moment of the timeout
+     * @return failed result
+     */
+    static AsyncAssertResult timedOut(@NonNull final Duration limit, @NonNull final StackTraceElement[] stackTrace)
+    {
+        return new AsyncAssertResult(() -> {
+            final var error = new AssertionError("Check did not complete within " + limit.toMillis() + "ms and was interrupted");
+            error.setStackTrace(stackTrace);
+            return error;
+        });
     }
 
     static AsyncAssertResult evaluate(@NonNull final Consumer<SoftAssertions> assertionConfigurer)
     {
-        final var assertions = new SoftAssertions();
-        // catching error in case assertAll is called explicitly by the consumer
-        final var caughtError = catchThrowableOfType(() -> assertionConfigurer.accept(assertions), AssertionError.class);
-        if (caughtError != null)
+        return evaluate(assertionConfigurer, new CollectingSoftAssertions());
+    }
+
+    static AsyncAssertResult evaluate(@NonNull final Consumer<SoftAssertions> assertionConfigurer,
+                                      @NonNull final CollectingSoftAssertions assertions)
+    {
+        try
+        {
+            assertionConfigurer.accept(assertions.assertions());
+        }
+        catch (final AssertionError e)
         {
-            return new AsyncAssertResult(caughtError);
+            // error thrown in case assertAll is called explicitly by the consumer
+            return new AsyncAssertResult(() -> e);
         }
-        return new AsyncAssertResult(catchThrowableOfType(assertions::assertAll, AssertionError.class));
+        if (!assertions.hasErrors())
+        {
+            return PASSED;
+        }
+        final var errors = assertions.assertionErrorsCollected();
+        return new AsyncAssertResult(() -> softAssertionsError(errors));
+    }
+
+    /**
+     * Combines results of named conditions checked together.
+     *
+     * @param results results of the conditions by name
+     * @return successful result if all conditions passed, otherwise result with {@link GroupedAssertionError} of failed conditions
+     */
+    static AsyncAssertResult grouped(@NonNull final Map<String, AsyncAssertResult> results)
+    {
+        final var failedResults = new LinkedHashMap<String, AsyncAssertResult>();
+        results.forEach((name, result) -> {
+            if (result.hasFailed())
+            {
+                failedResults.put(name, result);
+            }
+        });
+        if (failedResults.isEmpty())
+        {
+            return PASSED;
+        }
+        return new AsyncAssertResult(() -> {
+            final var errors = new LinkedHashMap<String, AssertionError>();
+            failedResults.forEach((name, result) -> errors.put(name, result.error.get()));
+            return new GroupedAssertionError(errors);
+        });
     }
 
     boolean hasFailed()
@@ -40,11 +126,31 @@ final class AsyncAssertResult
         return error != null;
     }
 
-    void throwOnFailure(@NonNull final AsyncAssertAwaitConfig config)
+    AssertionError createError(@NonNull final AsyncAssertAwaitConfig config)
+    {
+        return AsyncAssertionErrorCreator.create(config, error.get());
+    }
+
+    AssertionError createError(@NonNull final String heading)
+    {
+        return AsyncAssertionErrorCreator.create(heading, error.get());
+    }
+
+    /**
+     * Creates the same error as {@link SoftAssertions#assertAll()} of the check which collected the errors.
+     */
+    private static AssertionError softAssertionsError(final List<AssertionError> errors)
     {
-        if (hasFailed())
+        final var assertions = new SoftAssertions();
+        errors.forEach(assertions::collectAssertionError);
+        try
+        {
+            assertions.assertAll();
+        }
+        catch (final AssertionError e)
         {
-            throw AsyncAssertionErrorCreator.create(config, error);
+            return e;
         }
+        return UNDEFINED_ERROR;
     }
 }
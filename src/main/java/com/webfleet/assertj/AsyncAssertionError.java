@@ -1,6 +1,7 @@
 package com.webfleet.assertj;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 
@@ -21,10 +22,22 @@ final class AsyncAssertionError extends AssertJMultipleFailuresError
 
     static AssertJMultipleFailuresError create(@NonNull final String heading, @NonNull final AssertionError error)
     {
+        return new AsyncAssertionError(heading, failures(error));
+    }
+
+    private static List<? extends Throwable> failures(final AssertionError error)
+    {
+        if (error instanceof GroupedAssertionError)
+        {
+            return ((GroupedAssertionError) error).errors().entrySet().stream()
+                .flatMap(namedError -> failures(namedError.getValue()).stream()
+                    .map(failure -> new AssertionError(GroupedAssertionError.label(namedError.getKey(), failure.getMessage()), failure)))
+                .collect(toList());
+        }
         if (error instanceof MultipleFailuresError)
         {
-            return new AsyncAssertionError(heading, ((MultipleFailuresError) error).getFailures());
+            return ((MultipleFailuresError) error).getFailures();
         }
-        return new AsyncAssertionError(heading, singletonList(error));
+        return singletonList(error);
     }
 }
@@ -3,7 +3,11 @@ package com.webfleet.assertj;
 import static java.util.Collections.singletonList;
 import static java.util.logging.Level.FINE;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -23,19 +27,31 @@ final class AsyncAssertionErrorCreator
 {
     /**
      * The {@link AsyncAssertionError} requires dependency to `opentest4j` which is optional in compileOnly scope.
-     * To enable the usage in JUnit4 the class is loaded with reflections.
+     * To enable the usage in JUnit4 the class is loaded dynamically and its factory method is resolved once to cached method handle,
+     * so the errors are created without reflection calls.
      * If class couldn't be loaded, alternative exception creation method is used  {@link AsyncAssertionErrorCreator#fallbackCreator()}.
+     * The native-image metadata registering the factory method is provided in {@code META-INF/native-image}.
      */
     private static final String ASYNC_ASSERTION_ERROR_CLASS = "com.webfleet.assertj.AsyncAssertionError";
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(AssertionError.class, String.class, AssertionError.class);
 
-    private static final BiFunction<AsyncAssertAwaitConfig, AssertionError, AssertionError> CREATOR =
-        tryLoadAsyncAssertionErrorClass()
-            .map(AsyncAssertionErrorCreator::asyncAssertionErrorCreator)
-            .orElseGet(AsyncAssertionErrorCreator::fallbackCreator);
+    private static final MethodHandle ASYNC_ASSERTION_ERROR_FACTORY = tryLoadAsyncAssertionErrorClass()
+        .map(AsyncAssertionErrorCreator::asyncAssertionErrorFactory)
+        .orElse(null);
+    private static final BiFunction<String, AssertionError, AssertionError> FALLBACK_CREATOR = fallbackCreator();
 
     static AssertionError create(@NonNull final AsyncAssertAwaitConfig config, @NonNull final AssertionError error)
     {
-        return CREATOR.apply(config, error);
+        return create(createHeading(config), error);
+    }
+
+    static AssertionError create(@NonNull final String heading, @NonNull final AssertionError error)
+    {
+        if (ASYNC_ASSERTION_ERROR_FACTORY != null)
+        {
+            return createAsyncAssertionError(heading, error);
+        }
+        return FALLBACK_CREATOR.apply(heading, error);
     }
 
     private static Optional<Class<?>> tryLoadAsyncAssertionErrorClass()
@@ -51,22 +67,39 @@ final class AsyncAssertionErrorCreator
         }
     }
 
-    private static BiFunction<AsyncAssertAwaitConfig, AssertionError, AssertionError> asyncAssertionErrorCreator(final Class<?> asyncAssertionErrorClass)
+    private static MethodHandle asyncAssertionErrorFactory(final Class<?> asyncAssertionErrorClass)
     {
-        final var method = ReflectionCall.run(() -> asyncAssertionErrorClass
-            .getDeclaredMethod("create", String.class, AssertionError.class));
-        return (config, error) -> ReflectionCall.run(() -> (AssertionError) method.invoke(null, createHeading(config), error));
+        // the return type is not referenced directly, as it can't be loaded without opentest4j
+        final var factory = ReflectionCall.run(() -> MethodHandles.lookup()
+            .unreflect(asyncAssertionErrorClass.getDeclaredMethod("create", String.class, AssertionError.class)));
+        return factory.asType(FACTORY_TYPE);
     }
 
-    private static BiFunction<AsyncAssertAwaitConfig, AssertionError, AssertionError> fallbackCreator()
+    private static AssertionError createAsyncAssertionError(final String heading, final AssertionError error)
     {
-        return (config, error) -> {
+        try
+        {
+            return (AssertionError) ASYNC_ASSERTION_ERROR_FACTORY.invokeExact(heading, error);
+        }
+        catch (final RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (final Throwable e)
+        {
+            throw new IllegalStateException("Could not create " + ASYNC_ASSERTION_ERROR_CLASS, e);
+        }
+    }
+
+    static BiFunction<String, AssertionError, AssertionError> fallbackCreator()
+    {
+        return (heading, error) -> {
             final var errors = aggregateErrors(error);
             if (errors.size() == 1)
             {
-                return new AssertionError(createHeading(config) + "\n" + errors.get(0));
+                return new AssertionError(heading + "\n" + errors.get(0));
             }
-            final var message = new StringBuilder(createHeading(config))
+            final var message = new StringBuilder(heading)
                 .append(" (failures ").append(errors.size()).append(")\n")
                 .append(IntStream.range(0, errors.size())
                     .mapToObj(i -> "-- failure " + (i + 1) + " --" + errors.get(i))
@@ -78,6 +111,13 @@ final class AsyncAssertionErrorCreator
 
     private static List<String> aggregateErrors(final AssertionError error)
     {
+        if (error instanceof GroupedAssertionError)
+        {
+            return ((GroupedAssertionError) error).errors().entrySet().stream()
+                .flatMap(namedError -> aggregateErrors(namedError.getValue()).stream()
+                    .map(message -> GroupedAssertionError.label(namedError.getKey(), message)))
+                .collect(toList());
+        }
         if (error instanceof SoftAssertionError)
         {
             return ((SoftAssertionError) error).getErrors();
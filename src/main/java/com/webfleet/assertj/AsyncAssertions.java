@@ -1,6 +1,7 @@
 package com.webfleet.assertj;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import lombok.AccessLevel;
@@ -30,7 +31,7 @@ public final class AsyncAssertions
      */
     public static AsyncAssert awaitAtMost(@NonNull final Duration timeout)
     {
-        return new AsyncAssertImpl(SystemTime.UTC, AsyncAssertAwaitConfig.withTimeout(timeout));
+        return new AsyncAssertImpl(SystemTime.MONOTONIC, AsyncAssertAwaitConfig.withTimeout(timeout));
     }
 
     /**
@@ -50,7 +51,7 @@ public final class AsyncAssertions
      */
     public static AsyncAssert awaitAtMost(final long timeout, @NonNull final TimeUnit timeUnit)
     {
-        return awaitAtMost(Duration.ofMillis(timeUnit.toMillis(timeout)));
+        return awaitAtMost(Duration.of(timeout, timeUnit.toChronoUnit()));
     }
 
     /**
@@ -142,4 +143,118 @@ public final class AsyncAssertions
     {
         return awaitAtMost(Duration.ofSeconds(30));
     }
+
+    /**
+     * Builds asynchronous assertion verifying that the assertions keep passing for the given period.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * holdsFor(Duration.ofSeconds(5)).during(async -> {
+     *     async.assertThat(consumer.redeliveredMessages()).isEmpty();
+     * });
+     * }</pre>
+     * See {@link AsyncAssert#during} for more details.
+     *
+     * @param period period of the assertions stability
+     * @return {@link AsyncAssert}
+     */
+    public static AsyncAssert holdsFor(@NonNull final Duration period)
+    {
+        return awaitAtMost(period);
+    }
+
+    /**
+     * Builds asynchronous assertion of multiple named conditions awaited together with given timeout.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * awaitAll(Duration.ofSeconds(5))
+     *     .condition("database", async -> async.assertThat(database.isReady()).isTrue())
+     *     .condition("cache", async -> async.assertThat(cache.isReady()).isTrue())
+     *     .untilAllPassed();
+     * }</pre>
+     * See {@link AsyncAssertAll} for more details.
+     *
+     * @param timeout timeout shared by all conditions
+     * @return {@link AsyncAssertAll}
+     */
+    public static AsyncAssertAll awaitAll(@NonNull final Duration timeout)
+    {
+        return new AsyncAssertAllImpl(new AsyncAssertImpl(SystemTime.MONOTONIC, AsyncAssertAwaitConfig.withTimeout(timeout)));
+    }
+
+    /**
+     * Builds asynchronous assertion of multiple named candidate conditions, passing as soon as any of them is passed within given timeout.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * var passedCondition = awaitAny(Duration.ofSeconds(5))
+     *     .condition("primary", async -> async.assertThat(primary.isDone()).isTrue())
+     *     .condition("fallback", async -> async.assertThat(fallback.isDone()).isTrue())
+     *     .untilAnyPassed();
+     * }</pre>
+     * See {@link AsyncAssertAny} for more details.
+     *
+     * @param timeout timeout shared by all conditions
+     * @return {@link AsyncAssertAny}
+     */
+    public static AsyncAssertAny awaitAny(@NonNull final Duration timeout)
+    {
+        return new AsyncAssertAnyImpl(new AsyncAssertImpl(SystemTime.MONOTONIC, AsyncAssertAwaitConfig.withTimeout(timeout)));
+    }
+
+    /**
+     * Starts the warm-up of AssertJ soft assertion proxies in the background.
+     * <p>
+     * AssertJ generates the soft assertion proxy on the first usage of each assert type, which can take significant part
+     * of short timeout of the first await in the JVM.
+     * The warm-up generates the proxies of commonly used types on a daemon thread, so it can be started at the beginning
+     * of the test suite without blocking it. The warm-up is executed only once - subsequent calls return the same future.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * @BeforeAll
+     * static void warmUp()
+     * {
+     *     AsyncAssertions.warmUp();
+     * }
+     * }</pre>
+     * For JUnit 5 the {@link AsyncAssertionsWarmUpExtension} can be used instead.
+     *
+     * @return future completed when the warm-up is finished
+     */
+    public static CompletableFuture<Void> warmUp()
+    {
+        return SoftAssertionsWarmUp.start();
+    }
+
+    /**
+     * Registers the listener notified about the checks and waits of all asynchronous assertions started afterwards.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * @BeforeAll
+     * static void registerListener()
+     * {
+     *     AsyncAssertions.addListener(slowChecksListener);
+     * }
+     * }</pre>
+     *
+     * @param listener the listener
+     * @see AsyncAssertListener
+     */
+    public static void addListener(@NonNull final AsyncAssertListener listener)
+    {
+        AwaitObserver.addGlobalListener(listener);
+    }
+
+    /**
+     * Removes the listener registered with {@link #addListener(AsyncAssertListener)}.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(@NonNull final AsyncAssertListener listener)
+    {
+        AwaitObserver.removeGlobalListener(listener);
+    }
 }
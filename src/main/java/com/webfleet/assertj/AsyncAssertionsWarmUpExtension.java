@@ -0,0 +1,41 @@
+package com.webfleet.assertj;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import lombok.NonNull;
+
+
+/**
+ * JUnit 5 extension starting {@link AsyncAssertions#warmUp()} before the tests of the class.
+ * <p>
+ * The extension can be registered with {@code @ExtendWith(AsyncAssertionsWarmUpExtension.class)}
+ * or for the whole test suite with extension auto-detection enabled by
+ * {@code junit.jupiter.extensions.autodetection.enabled=true} configuration parameter.
+ * The warm-up is executed once per JVM in the background, so it doesn't delay the tests.
+ * <p>
+ * The extension requires {@code junit-jupiter-api} in the classpath.
+ */
+public final class AsyncAssertionsWarmUpExtension implements BeforeAllCallback
+{
+    private final Supplier<CompletableFuture<Void>> warmUp;
+
+    public AsyncAssertionsWarmUpExtension()
+    {
+        this(AsyncAssertions::warmUp);
+    }
+
+    AsyncAssertionsWarmUpExtension(@NonNull final Supplier<CompletableFuture<Void>> warmUp)
+    {
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public void beforeAll(final ExtensionContext context)
+    {
+        warmUp.get();
+    }
+}
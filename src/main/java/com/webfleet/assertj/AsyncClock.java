@@ -0,0 +1,74 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Clock measuring the time of asynchronous assertions and waiting in between their checks.
+ * <p>
+ * By default, the assertions use the system monotonic clock and really wait the check intervals.
+ * The test suite which already controls the time of the system under test with a fake clock can provide its own implementation
+ * with {@link AsyncAssert#usingClock(AsyncClock)}, so the waits advance the fake clock instead of sleeping
+ * and the awaits of minutes finish in milliseconds.
+ * <p>
+ * The wait is fully controlled by the clock, so the wait mutex, signal and publisher notifications don't end it earlier.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * var fakeClock = new AtomicLong();
+ * var clock = new AsyncClock() {
+ *     @Override
+ *     public long nanoTime()
+ *     {
+ *         return fakeClock.get();
+ *     }
+ *
+ *     @Override
+ *     public void waitFor(Duration interval)
+ *     {
+ *         fakeClock.addAndGet(interval.toNanos());
+ *     }
+ * };
+ *
+ * awaitAtMost(Duration.ofMinutes(5))
+ *     .usingClock(clock)
+ *     .untilAssertions(async -> {
+ *         async.assertThat(scheduler.executedJobs()).isNotEmpty();
+ *     });
+ * }</pre>
+ */
+public interface AsyncClock
+{
+    /**
+     * Returns the current value of the clock in nanoseconds, used only to measure the elapsed time.
+     *
+     * @return the current value of the clock in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Waits the given interval in between the assertions checks.
+     * The fake clock implementation should advance the clock by the interval instead of sleeping.
+     *
+     * @param interval the interval to be waited
+     */
+    void waitFor(Duration interval);
+
+    /**
+     * Schedules the asynchronous assertions check after the given delay, used by {@link AsyncAssert#untilAssertionsAsync}.
+     * <p>
+     * By default, the task is executed in {@link java.util.concurrent.ForkJoinPool#commonPool()} after {@link #waitFor(Duration)} call,
+     * which is instant for the fake clock. The clock really waiting the interval should override it with non-blocking scheduling.
+     *
+     * @param task  the task to be executed
+     * @param delay the delay of the task execution
+     */
+    default void schedule(final Runnable task, final Duration delay)
+    {
+        CompletableFuture.runAsync(() -> {
+            waitFor(delay);
+            task.run();
+        });
+    }
+}
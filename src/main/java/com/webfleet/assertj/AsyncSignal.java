@@ -0,0 +1,174 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import com.webfleet.assertj.Time.WaitCondition;
+
+import lombok.NonNull;
+
+
+/**
+ * Signal used to notify waiting asynchronous assertions about state change, forcing the next assertions check.
+ * <p>
+ * Unlike wait mutex configured with {@link AsyncAssert#usingWaitMutex}, the signal doesn't use object monitors:
+ * <ul>
+ *     <li>{@link #signal()} never blocks and doesn't require any lock</li>
+ *     <li>the waiting threads are parked with {@link LockSupport}, so waiting virtual threads don't pin their carrier threads</li>
+ *     <li>the signal sent while the assertions are checked is not lost - the next wait ends immediately</li>
+ * </ul>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * // given
+ * var condition = new AtomicBoolean();
+ * var signal = new AsyncSignal();
+ * var executor = Executors.newSingleThreadExecutor();
+ *
+ * // when
+ * executor.execute(() -> {
+ *     // ... asynchronous logic
+ *     condition.set(true);
+ *     signal.signal();
+ * });
+ *
+ * // then
+ * awaitAtMostOneSecond()
+ *     .usingSignal(signal)
+ *     .untilAssertions(async -> {
+ *         async.assertThat(condition).isTrue();
+ *     });
+ * }</pre>
+ */
+public final class AsyncSignal
+{
+    private final AtomicLong signalCount = new AtomicLong();
+    private final AtomicReference<Waiter> waiters = new AtomicReference<>();
+
+    /**
+     * Notifies all assertions waiting for this signal.
+     */
+    public void signal()
+    {
+        signalCount.incrementAndGet();
+        var waiter = waiters.getAndSet(null);
+        while (waiter != null)
+        {
+            final var thread = waiter.thread;
+            if (thread != null)
+            {
+                LockSupport.unpark(thread);
+            }
+            waiter = waiter.next;
+        }
+    }
+
+    WaitCondition waitCondition()
+    {
+        return new SignalWaitCondition();
+    }
+
+    /**
+     * Counts the waiters kept in the list, including the ones which already stopped waiting but were not dropped yet.
+     */
+    int waiterCount()
+    {
+        var count = 0;
+        for (var waiter = waiters.get(); waiter != null; waiter = waiter.next)
+        {
+            count++;
+        }
+        return count;
+    }
+
+    private void push(final Waiter waiter)
+    {
+        Waiter head;
+        do
+        {
+            head = waiters.get();
+            waiter.next = nextWaiting(head);
+        }
+        while (!waiters.compareAndSet(head, waiter));
+        // dropping the waiters which already stopped waiting from the rest of the list,
+        // the waiter never waits again after stopping, so the waiting one is never dropped
+        for (var waiting = waiter.next; waiting != null; waiting = waiting.next)
+        {
+            waiting.next = nextWaiting(waiting.next);
+        }
+    }
+
+    private static Waiter nextWaiting(final Waiter waiter)
+    {
+        var next = waiter;
+        while (next != null && next.thread == null)
+        {
+            next = next.next;
+        }
+        return next;
+    }
+
+    private static final class Waiter
+    {
+        private volatile Thread thread;
+        private volatile Waiter next;
+
+        private Waiter(final Thread thread)
+        {
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * Wait condition of single await, remembering the signals observed by previous waits.
+     */
+    private final class SignalWaitCondition implements WaitCondition
+    {
+        private long observedSignalCount = signalCount.get();
+
+        @Override
+        public void waitFor(@NonNull final Duration waitInterval)
+        {
+            final var waitNanos = waitInterval.toNanos();
+            if (waitNanos <= 0L || consumeSignal())
+            {
+                return;
+            }
+            final var deadline = System.nanoTime() + waitNanos;
+            final var waiter = new Waiter(Thread.currentThread());
+            push(waiter);
+            try
+            {
+                var remainingNanos = waitNanos;
+                while (remainingNanos > 0L && !consumeSignal() && !Thread.currentThread().isInterrupted())
+                {
+                    LockSupport.parkNanos(this, remainingNanos);
+                    remainingNanos = deadline - System.nanoTime();
+                }
+            }
+            finally
+            {
+                waiter.thread = null;
+            }
+        }
+
+        @Override
+        public boolean isSignalled()
+        {
+            return consumeSignal();
+        }
+
+        private boolean consumeSignal()
+        {
+            final var currentSignalCount = signalCount.get();
+            if (currentSignalCount != observedSignalCount)
+            {
+                observedSignalCount = currentSignalCount;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import com.webfleet.assertj.Time.ElapsedTime;
+import com.webfleet.assertj.Time.WaitCondition;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+
+
+/**
+ * Notifies {@link AsyncAssertListener listeners} about the progress of single await and records it as JDK Flight Recorder events.
+ * <p>
+ * Without any listener registered and with the {@link AwaitRecording events} disabled the {@link #NONE} observer is used,
+ * which only delegates the checks and waits without measuring them.
+ * The durations are measured with the elapsed time of the await, so the listeners see the same time as the await itself.
+ * <p>
+ * The observer is not thread-safe - the checks and waits of single await are executed sequentially.
+ */
+@Log
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class AwaitObserver
+{
+    private static final List<AsyncAssertListener> GLOBAL_LISTENERS = new CopyOnWriteArrayList<>();
+    private static final AwaitObserver NONE = new AwaitObserver(new AsyncAssertListener[0], null, null, null);
+    private static final boolean FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
+    private final AsyncAssertListener[] listeners;
+    private final AsyncAssertContext context;
+    private final ElapsedTime elapsedTime;
+    private final AwaitRecording recording;
+    private int checkCount;
+    private Duration checkInterval;
+    private long waitStartNanos;
+    private boolean ended;
+
+    static void addGlobalListener(@NonNull final AsyncAssertListener listener)
+    {
+        GLOBAL_LISTENERS.add(listener);
+    }
+
+    static void removeGlobalListener(@NonNull final AsyncAssertListener listener)
+    {
+        GLOBAL_LISTENERS.remove(listener);
+    }
+
+    static AwaitObserver start(@NonNull final AsyncAssertAwaitConfig config,
+                               @NonNull final List<AsyncAssertListener> localListeners,
+                               @NonNull final ElapsedTime elapsedTime)
+    {
+        return start(config, localListeners, elapsedTime, false);
+    }
+
+    static AwaitObserver start(@NonNull final AsyncAssertAwaitConfig config,
+                               @NonNull final List<AsyncAssertListener> localListeners,
+                               @NonNull final ElapsedTime elapsedTime,
+                               final boolean stability)
+    {
+        final var recorded = FLIGHT_RECORDER_AVAILABLE && AwaitRecording.isEnabled();
+        if (GLOBAL_LISTENERS.isEmpty() && localListeners.isEmpty() && !recorded)
+        {
+            return NONE;
+        }
+        final var listeners = Stream.concat(GLOBAL_LISTENERS.stream(), localListeners.stream()).toArray(AsyncAssertListener[]::new);
+        final var context = new AsyncAssertContext(config.timeout(), config.checkInterval(), CallSite.find(), stability);
+        final var observer = new AwaitObserver(listeners, context, elapsedTime, recorded ? AwaitRecording.start(context) : null);
+        observer.notifyListeners(listener -> listener.onStart(context));
+        return observer;
+    }
+
+    AsyncAssertResult check(final Supplier<AsyncAssertResult> check)
+    {
+        if (this == NONE)
+        {
+            return check.get();
+        }
+        final var startNanos = checkStarted();
+        return checkEnded(startNanos, check.get());
+    }
+
+    /**
+     * Marks the start of the check ended with {@link #checkEnded(long, AsyncAssertResult)}, used when the check is not blocking.
+     *
+     * @return the start time of the check
+     */
+    long checkStarted()
+    {
+        if (this == NONE)
+        {
+            return 0L;
+        }
+        if (recording != null)
+        {
+            recording.checkStarted();
+        }
+        return elapsedTime.nanos();
+    }
+
+    AsyncAssertResult checkEnded(final long startNanos, final AsyncAssertResult result)
+    {
+        if (this == NONE)
+        {
+            return result;
+        }
+        final var evaluationTime = Duration.ofNanos(elapsedTime.nanos() - startNanos);
+        final var checkNumber = ++checkCount;
+        final var passed = !result.hasFailed();
+        if (recording != null)
+        {
+            recording.checkEnded(checkNumber, passed);
+        }
+        notifyListeners(listener -> listener.onCheck(context, checkNumber, evaluationTime, passed));
+        return result;
+    }
+
+    void waitFor(final WaitCondition waitCondition, final Duration checkInterval)
+    {
+        waitStarted(checkInterval);
+        waitCondition.waitFor(checkInterval);
+        waitEnded();
+    }
+
+    /**
+     * Marks the start of the wait ended with {@link #waitEnded()}, used when the wait is not blocking.
+     *
+     * @param checkInterval the check interval to be waited
+     */
+    void waitStarted(final Duration checkInterval)
+    {
+        if (this == NONE)
+        {
+            return;
+        }
+        this.checkInterval = checkInterval;
+        waitStartNanos = elapsedTime.nanos();
+        if (recording != null)
+        {
+            recording.waitStarted(checkInterval);
+        }
+    }
+
+    /**
+     * Marks the end of the wait started with {@link #waitStarted(Duration)}, ignored when no wait was started.
+     */
+    void waitEnded()
+    {
+        if (checkInterval == null)
+        {
+            return;
+        }
+        final var waitedInterval = checkInterval;
+        final var waitTime = Duration.ofNanos(elapsedTime.nanos() - waitStartNanos);
+        checkInterval = null;
+        if (recording != null)
+        {
+            recording.waitEnded();
+        }
+        notifyListeners(listener -> listener.onWait(context, waitedInterval, waitTime));
+    }
+
+    void success()
+    {
+        if (this == NONE)
+        {
+            return;
+        }
+        ended = true;
+        if (recording != null)
+        {
+            recording.awaitEnded(checkCount, true);
+        }
+        final var totalTime = elapsedTime.get();
+        notifyListeners(listener -> listener.onSuccess(context, checkCount, totalTime));
+    }
+
+    void timeout(final AssertionError error)
+    {
+        if (this == NONE)
+        {
+            return;
+        }
+        ended = true;
+        if (recording != null)
+        {
+            recording.awaitEnded(checkCount, false);
+        }
+        final var totalTime = elapsedTime.get();
+        notifyListeners(listener -> listener.onTimeout(context, checkCount, totalTime, error));
+    }
+
+    /**
+     * Notifies about the await ended by the exception, ignored when the await already ended with success or timeout.
+     *
+     * @param exception the exception ending the await
+     */
+    void failure(final Throwable exception)
+    {
+        if (this == NONE || ended)
+        {
+            return;
+        }
+        ended = true;
+        if (recording != null)
+        {
+            recording.awaitEnded(checkCount, false);
+        }
+        final var totalTime = elapsedTime.get();
+        notifyListeners(listener -> listener.onFailure(context, checkCount, totalTime, exception));
+    }
+
+    private void notifyListeners(final Consumer<AsyncAssertListener> notification)
+    {
+        for (final var listener : listeners)
+        {
+            try
+            {
+                notification.accept(listener);
+            }
+            catch (final RuntimeException e)
+            {
+                LOG.log(Level.WARNING, "Async assert listener " + listener + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * The {@code jdk.jfr} module is missing in some runtimes, e.g. minimal images created with {@code jlink},
+     * so the {@link AwaitRecording} is used only when the module is present.
+     */
+    private static boolean isFlightRecorderAvailable()
+    {
+        return ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+    }
+}
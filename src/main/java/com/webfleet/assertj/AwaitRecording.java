@@ -0,0 +1,166 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import lombok.NonNull;
+
+
+/**
+ * JDK Flight Recorder events of single await.
+ * <p>
+ * The events are disabled by default and can be enabled with the usual JFR settings,
+ * e.g. {@code -XX:StartFlightRecording:+com.webfleet.assertj.Check#enabled=true} on JDK 17+ or custom {@code .jfc} file.
+ * The recording is started only when any of the events is enabled, so disabled events cost only the enablement check per await.
+ * The class must not be loaded when {@code jdk.jfr} module is not available in the runtime, see {@link AwaitObserver}.
+ */
+final class AwaitRecording
+{
+    private static final String CATEGORY = "AssertJ Async";
+    private static final EventType AWAIT_EVENT_TYPE = EventType.getEventType(AwaitEvent.class);
+    private static final EventType CHECK_EVENT_TYPE = EventType.getEventType(CheckEvent.class);
+    private static final EventType WAIT_EVENT_TYPE = EventType.getEventType(WaitEvent.class);
+
+    private final AwaitEvent awaitEvent = new AwaitEvent();
+    private final String callSite;
+    private CheckEvent checkEvent;
+    private WaitEvent waitEvent;
+
+    private AwaitRecording(@NonNull final AsyncAssertContext context)
+    {
+        callSite = context.callSite().map(StackTraceElement::toString).orElse(null);
+        awaitEvent.callSite = callSite;
+        awaitEvent.timeout = context.timeout().toNanos();
+        awaitEvent.checkInterval = context.checkInterval().toNanos();
+        awaitEvent.begin();
+    }
+
+    static boolean isEnabled()
+    {
+        return AWAIT_EVENT_TYPE.isEnabled() || CHECK_EVENT_TYPE.isEnabled() || WAIT_EVENT_TYPE.isEnabled();
+    }
+
+    static AwaitRecording start(@NonNull final AsyncAssertContext context)
+    {
+        return new AwaitRecording(context);
+    }
+
+    void checkStarted()
+    {
+        checkEvent = new CheckEvent();
+        checkEvent.begin();
+    }
+
+    void checkEnded(final int checkNumber, final boolean passed)
+    {
+        final var event = checkEvent;
+        checkEvent = null;
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.callSite = callSite;
+            event.checkNumber = checkNumber;
+            event.passed = passed;
+            event.commit();
+        }
+    }
+
+    void waitStarted(final Duration checkInterval)
+    {
+        waitEvent = new WaitEvent();
+        waitEvent.checkInterval = checkInterval.toNanos();
+        waitEvent.begin();
+    }
+
+    void waitEnded()
+    {
+        final var event = waitEvent;
+        waitEvent = null;
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.callSite = callSite;
+            event.commit();
+        }
+    }
+
+    void awaitEnded(final int checkCount, final boolean passed)
+    {
+        awaitEvent.end();
+        if (awaitEvent.shouldCommit())
+        {
+            awaitEvent.checkCount = checkCount;
+            awaitEvent.passed = passed;
+            awaitEvent.commit();
+        }
+    }
+
+    @Name("com.webfleet.assertj.Await")
+    @Label("Async Await")
+    @Description("Await of asynchronous assertions, from the start until success or timeout")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class AwaitEvent extends Event
+    {
+        @Label("Call Site")
+        String callSite;
+
+        @Label("Timeout")
+        @Timespan
+        long timeout;
+
+        @Label("Check Interval")
+        @Timespan
+        long checkInterval;
+
+        @Label("Check Count")
+        int checkCount;
+
+        @Label("Passed")
+        boolean passed;
+    }
+
+    @Name("com.webfleet.assertj.Check")
+    @Label("Async Assertions Check")
+    @Description("Single evaluation of asynchronous assertions")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class CheckEvent extends Event
+    {
+        @Label("Call Site")
+        String callSite;
+
+        @Label("Check Number")
+        int checkNumber;
+
+        @Label("Passed")
+        boolean passed;
+    }
+
+    @Name("com.webfleet.assertj.Wait")
+    @Label("Async Assertions Wait")
+    @Description("Wait in between asynchronous assertions checks, shorter than the check interval when ended by a signal")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class WaitEvent extends Event
+    {
+        @Label("Call Site")
+        String callSite;
+
+        @Label("Check Interval")
+        @Timespan
+        long checkInterval;
+    }
+}
@@ -0,0 +1,333 @@
+package com.webfleet.assertj;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+
+/**
+ * Statistics of the awaits collected per test and await call site, reported by {@link AsyncAssertReportListener}.
+ * <p>
+ * The test is recognized by the thread starting the await, so the awaits started by other threads are reported without the test.
+ */
+final class AwaitStatistics implements AsyncAssertListener
+{
+    /**
+     * The share of the timeout used by the await succeeding with less than 10% of its timeout left.
+     */
+    static final double NEAR_TIMEOUT_SHARE = 0.9;
+    static final String NO_TEST = "";
+    private static final String NO_CALL_SITE = "unknown";
+    private static final String CSV_HEADER = "test,callSite,awaits,checks,waitTimeMillis,successes,timeouts,failures,"
+        + "firstCheckSuccesses,nearTimeoutSuccesses,averageTimeoutShare,maxTimeoutShare,flags";
+
+    private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private final Map<AsyncAssertContext, PendingAwait> pendingAwaits = new ConcurrentHashMap<>();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    void testStarted(@NonNull final String test)
+    {
+        currentTest.set(test);
+    }
+
+    void testFinished()
+    {
+        currentTest.remove();
+    }
+
+    @Override
+    public void onStart(final AsyncAssertContext context)
+    {
+        if (context.stability())
+        {
+            // stability awaits wait the whole timeout by design
+            return;
+        }
+        final var test = currentTest.get();
+        final var callSite = context.callSite().map(StackTraceElement::toString).orElse(NO_CALL_SITE);
+        pendingAwaits.put(context, new PendingAwait(new Key(test == null ? NO_TEST : test, callSite)));
+    }
+
+    @Override
+    public void onWait(final AsyncAssertContext context, final Duration checkInterval, final Duration waitTime)
+    {
+        final var pendingAwait = pendingAwaits.get(context);
+        if (pendingAwait != null)
+        {
+            pendingAwait.waitNanos += waitTime.toNanos();
+        }
+    }
+
+    @Override
+    public void onSuccess(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime)
+    {
+        finish(context, checkCount, elapsedTime, Outcome.SUCCESS);
+    }
+
+    @Override
+    public void onTimeout(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final AssertionError error)
+    {
+        finish(context, checkCount, elapsedTime, Outcome.TIMEOUT);
+    }
+
+    @Override
+    public void onFailure(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final Throwable exception)
+    {
+        finish(context, checkCount, elapsedTime, Outcome.FAILURE);
+    }
+
+    List<Entry> entries()
+    {
+        return entries.values().stream()
+            .sorted(comparingLong(Entry::waitNanos).reversed())
+            .collect(toList());
+    }
+
+    void writeCsv(@NonNull final Writer writer) throws IOException
+    {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (final var entry : entries())
+        {
+            synchronized (entry)
+            {
+                writer.write(String.join(",",
+                    csvValue(entry.key.test),
+                    csvValue(entry.key.callSite),
+                    String.valueOf(entry.awaits),
+                    String.valueOf(entry.checks),
+                    String.valueOf(entry.waitTimeMillis()),
+                    String.valueOf(entry.successes),
+                    String.valueOf(entry.timeouts),
+                    String.valueOf(entry.failures),
+                    String.valueOf(entry.firstCheckSuccesses),
+                    String.valueOf(entry.nearTimeoutSuccesses),
+                    share(entry.averageTimeoutShare()),
+                    share(entry.maxTimeoutShare),
+                    String.join(" ", entry.flags())));
+            }
+            writer.write('\n');
+        }
+    }
+
+    void writeJson(@NonNull final Writer writer) throws IOException
+    {
+        writer.write("[");
+        var first = true;
+        for (final var entry : entries())
+        {
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            synchronized (entry)
+            {
+                writer.write("  {\"test\": " + jsonString(entry.key.test)
+                    + ", \"callSite\": " + jsonString(entry.key.callSite)
+                    + ", \"awaits\": " + entry.awaits
+                    + ", \"checks\": " + entry.checks
+                    + ", \"waitTimeMillis\": " + entry.waitTimeMillis()
+                    + ", \"successes\": " + entry.successes
+                    + ", \"timeouts\": " + entry.timeouts
+                    + ", \"failures\": " + entry.failures
+                    + ", \"firstCheckSuccesses\": " + entry.firstCheckSuccesses
+                    + ", \"nearTimeoutSuccesses\": " + entry.nearTimeoutSuccesses
+                    + ", \"averageTimeoutShare\": " + share(entry.averageTimeoutShare())
+                    + ", \"maxTimeoutShare\": " + share(entry.maxTimeoutShare)
+                    + ", \"flags\": [" + entry.flags().stream().map(AwaitStatistics::jsonString).collect(joining(", ")) + "]}");
+            }
+        }
+        writer.write("\n]\n");
+    }
+
+    private void finish(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final Outcome outcome)
+    {
+        final var pendingAwait = pendingAwaits.remove(context);
+        if (pendingAwait == null)
+        {
+            return;
+        }
+        final var timeoutShare = (double) elapsedTime.toNanos() / context.timeout().toNanos();
+        final var entry = entries.computeIfAbsent(pendingAwait.key, Entry::new);
+        synchronized (entry)
+        {
+            entry.awaits++;
+            entry.checks += checkCount;
+            entry.waitNanos += pendingAwait.waitNanos;
+            if (outcome == Outcome.SUCCESS)
+            {
+                entry.successes++;
+                entry.timeoutShareSum += timeoutShare;
+                entry.maxTimeoutShare = Math.max(entry.maxTimeoutShare, timeoutShare);
+                if (checkCount == 1)
+                {
+                    entry.firstCheckSuccesses++;
+                }
+                if (timeoutShare > NEAR_TIMEOUT_SHARE)
+                {
+                    entry.nearTimeoutSuccesses++;
+                }
+            }
+            else if (outcome == Outcome.TIMEOUT)
+            {
+                entry.timeouts++;
+            }
+            else
+            {
+                entry.failures++;
+            }
+        }
+    }
+
+    private static String share(final double share)
+    {
+        return String.format(Locale.ROOT, "%.3f", share);
+    }
+
+    private static String csvValue(final String value)
+    {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n"))
+        {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String jsonString(final String value)
+    {
+        final var builder = new StringBuilder("\"");
+        for (final var character : value.toCharArray())
+        {
+            switch (character)
+            {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                default:
+                    if (character < 0x20)
+                    {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    }
+                    else
+                    {
+                        builder.append(character);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private enum Outcome
+    {
+        SUCCESS,
+        TIMEOUT,
+        FAILURE
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    private static final class Key
+    {
+        private final String test;
+        private final String callSite;
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class PendingAwait
+    {
+        private final Key key;
+        private long waitNanos;
+    }
+
+    /**
+     * Statistics of the awaits started by single test at single call site.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Accessors(fluent = true)
+    static final class Entry
+    {
+        private final Key key;
+        @Getter
+        private int awaits;
+        @Getter
+        private long checks;
+        @Getter
+        private long waitNanos;
+        @Getter
+        private int successes;
+        @Getter
+        private int timeouts;
+        @Getter
+        private int failures;
+        @Getter
+        private int firstCheckSuccesses;
+        @Getter
+        private int nearTimeoutSuccesses;
+        private double timeoutShareSum;
+        @Getter
+        private double maxTimeoutShare;
+
+        String test()
+        {
+            return key.test;
+        }
+
+        String callSite()
+        {
+            return key.callSite;
+        }
+
+        long waitTimeMillis()
+        {
+            return Duration.ofNanos(waitNanos).toMillis();
+        }
+
+        double averageTimeoutShare()
+        {
+            return successes == 0 ? 0.0 : timeoutShareSum / successes;
+        }
+
+        /**
+         * Flags the awaits worth reviewing:
+         * <ul>
+         *     <li>{@code NEAR_TIMEOUT} - at least half of the successful awaits had less than 10% of the timeout left</li>
+         *     <li>{@code FIRST_CHECK} - all awaits passed on the first check, so the await might be unnecessary</li>
+         * </ul>
+         *
+         * @return the flags of the awaits
+         */
+        List<String> flags()
+        {
+            final var flags = new ArrayList<String>(2);
+            if (successes > 0 && nearTimeoutSuccesses * 2 >= successes)
+            {
+                flags.add("NEAR_TIMEOUT");
+            }
+            if (awaits > 0 && firstCheckSuccesses == awaits)
+            {
+                flags.add("FIRST_CHECK");
+            }
+            return flags;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.webfleet.assertj;
+
+import static java.time.Duration.ZERO;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+
+/**
+ * Implementations of {@link BackoffStrategy} factory methods.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BackoffStrategies
+{
+    // fib(92) is the greatest Fibonacci number fitting in long
+    private static final int MAX_FIBONACCI_INDEX = 92;
+
+    static BackoffStrategy fixed(@NonNull final Duration interval)
+    {
+        return new Fixed(requirePositive(interval, "interval"));
+    }
+
+    static BackoffStrategy exponential(@NonNull final Duration initialInterval, final double multiplier)
+    {
+        if (multiplier < 1.0)
+        {
+            throw new IllegalArgumentException("multiplier must be greater than or equal to 1");
+        }
+        return new Exponential(requirePositive(initialInterval, "initialInterval"), multiplier);
+    }
+
+    static BackoffStrategy fibonacci(@NonNull final Duration initialInterval)
+    {
+        return new Fibonacci(requirePositive(initialInterval, "initialInterval"));
+    }
+
+    static BackoffStrategy decorrelatedJitter(@NonNull final Duration baseInterval)
+    {
+        return new DecorrelatedJitter(requirePositive(baseInterval, "baseInterval"));
+    }
+
+    static BackoffStrategy capped(@NonNull final BackoffStrategy strategy, @NonNull final Duration maxInterval)
+    {
+        return new Capped(strategy, requirePositive(maxInterval, "maxInterval"));
+    }
+
+    private static Duration requirePositive(final Duration interval, final String name)
+    {
+        if (interval.compareTo(ZERO) <= 0)
+        {
+            throw new IllegalArgumentException(name + " must be greater than zero");
+        }
+        return interval;
+    }
+
+    private static Duration saturatedNanos(final double nanos)
+    {
+        return Duration.ofNanos(nanos >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) nanos);
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @ToString
+    private static final class Fixed implements BackoffStrategy
+    {
+        private final Duration interval;
+
+        @Override
+        public Duration nextInterval(final int failedChecks, final Duration previousInterval)
+        {
+            return interval;
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @ToString
+    private static final class Exponential implements BackoffStrategy
+    {
+        private final Duration initialInterval;
+        private final double multiplier;
+
+        @Override
+        public Duration nextInterval(final int failedChecks, final Duration previousInterval)
+        {
+            return saturatedNanos(initialInterval.toNanos() * Math.pow(multiplier, Math.max(0, failedChecks - 1)));
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @ToString
+    private static final class Fibonacci implements BackoffStrategy
+    {
+        private final Duration initialInterval;
+
+        @Override
+        public Duration nextInterval(final int failedChecks, final Duration previousInterval)
+        {
+            var previous = 0L;
+            var current = 1L;
+            for (var i = 1; i < Math.min(failedChecks, MAX_FIBONACCI_INDEX); i++)
+            {
+                final var next = previous + current;
+                previous = current;
+                current = next;
+            }
+            return saturatedNanos((double) initialInterval.toNanos() * current);
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @ToString
+    private static final class DecorrelatedJitter implements BackoffStrategy
+    {
+        private final Duration baseInterval;
+
+        @Override
+        public Duration nextInterval(final int failedChecks, @NonNull final Duration previousInterval)
+        {
+            final var base = baseInterval.toNanos();
+            final var upperBound = Math.max(base, previousInterval.toNanos()) * 3.0;
+            return saturatedNanos(ThreadLocalRandom.current().nextDouble(base, upperBound));
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @ToString
+    private static final class Capped implements BackoffStrategy
+    {
+        private final BackoffStrategy strategy;
+        private final Duration maxInterval;
+
+        @Override
+        public Duration nextInterval(final int failedChecks, final Duration previousInterval)
+        {
+            final var interval = strategy.nextInterval(failedChecks, previousInterval);
+            return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+        }
+    }
+}
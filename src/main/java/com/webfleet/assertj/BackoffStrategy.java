@@ -0,0 +1,100 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+
+
+/**
+ * Strategy computing the interval to be waited between assertions checks.
+ * <p>
+ * The interval returned by the strategy is always shortened to not exceed the timeout of the assertion.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * awaitAtMostFiveSeconds()
+ *     .withBackoff(BackoffStrategy.exponential(Duration.ofMillis(10)).withCap(Duration.ofMillis(500)))
+ *     .untilAssertions(async -> {
+ *         async.assertThat(condition).isTrue();
+ *     });
+ * }</pre>
+ */
+@FunctionalInterface
+public interface BackoffStrategy
+{
+    /**
+     * Computes the interval to be waited after failed check.
+     *
+     * @param failedChecks number of failed checks, starting from 1 for the first check
+     * @param previousInterval interval computed after previous failed check, or {@link Duration#ZERO} after the first check
+     * @return interval greater than zero
+     */
+    Duration nextInterval(int failedChecks, Duration previousInterval);
+
+    /**
+     * Limits the intervals computed by this strategy to given maximum.
+     *
+     * @param maxInterval maximum interval
+     * @return strategy with capped intervals
+     */
+    default BackoffStrategy withCap(final Duration maxInterval)
+    {
+        return BackoffStrategies.capped(this, maxInterval);
+    }
+
+    /**
+     * Strategy waiting always the same interval.
+     *
+     * @param interval interval between checks
+     * @return fixed interval strategy
+     */
+    static BackoffStrategy fixed(final Duration interval)
+    {
+        return BackoffStrategies.fixed(interval);
+    }
+
+    /**
+     * Strategy doubling the interval after each failed check: {@code initial, 2*initial, 4*initial, ...}.
+     *
+     * @param initialInterval interval after the first check
+     * @return exponential strategy
+     */
+    static BackoffStrategy exponential(final Duration initialInterval)
+    {
+        return exponential(initialInterval, 2.0);
+    }
+
+    /**
+     * Strategy multiplying the interval by given multiplier after each failed check.
+     *
+     * @param initialInterval interval after the first check
+     * @param multiplier interval multiplier, must be greater than or equal to 1
+     * @return exponential strategy
+     */
+    static BackoffStrategy exponential(final Duration initialInterval, final double multiplier)
+    {
+        return BackoffStrategies.exponential(initialInterval, multiplier);
+    }
+
+    /**
+     * Strategy growing the interval following Fibonacci sequence: {@code initial, initial, 2*initial, 3*initial, 5*initial, ...}.
+     *
+     * @param initialInterval interval after the first check
+     * @return Fibonacci strategy
+     */
+    static BackoffStrategy fibonacci(final Duration initialInterval)
+    {
+        return BackoffStrategies.fibonacci(initialInterval);
+    }
+
+    /**
+     * Strategy picking random interval between base interval and three times previous interval.
+     * <p>
+     * Spreads the checks of multiple assertions awaiting the same resource in time, usually combined with {@link #withCap(Duration)}.
+     *
+     * @param baseInterval minimal interval
+     * @return decorrelated jitter strategy
+     */
+    static BackoffStrategy decorrelatedJitter(final Duration baseInterval)
+    {
+        return BackoffStrategies.decorrelatedJitter(baseInterval);
+    }
+}
@@ -0,0 +1,48 @@
+package com.webfleet.assertj;
+
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+
+import java.lang.StackWalker.StackFrame;
+import java.security.CodeSource;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Finds the first stack frame outside this library.
+ * <p>
+ * The library classes are recognized by their code source, so the classes of the caller are found even when they are declared in the same package.
+ * When the code source is not available, the library package is compared instead.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CallSite
+{
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+    private static final CodeSource LIBRARY_CODE_SOURCE = codeSource(CallSite.class);
+
+    static StackTraceElement find()
+    {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !isLibraryFrame(frame))
+            .findFirst()
+            .map(StackFrame::toStackTraceElement)
+            .orElse(null));
+    }
+
+    private static boolean isLibraryFrame(final StackFrame frame)
+    {
+        final var declaringClass = frame.getDeclaringClass();
+        if (LIBRARY_CODE_SOURCE == null)
+        {
+            return declaringClass.getPackageName().equals(CallSite.class.getPackageName());
+        }
+        return Objects.equals(LIBRARY_CODE_SOURCE, codeSource(declaringClass));
+    }
+
+    private static CodeSource codeSource(final Class<?> type)
+    {
+        return type.getProtectionDomain().getCodeSource();
+    }
+}
@@ -0,0 +1,42 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+
+/**
+ * Time of asynchronous assertions provided by user-supplied {@link AsyncClock}.
+ */
+@AllArgsConstructor(staticName = "of")
+final class ClockTime implements Time
+{
+    @NonNull
+    private final AsyncClock clock;
+
+    @Override
+    public ElapsedTime measure()
+    {
+        final var startTime = clock.nanoTime();
+        return () -> clock.nanoTime() - startTime;
+    }
+
+    @Override
+    public WaitCondition waitCondition(final Object mutex)
+    {
+        return clock::waitFor;
+    }
+
+    @Override
+    public void schedule(@NonNull final Runnable task, @NonNull final Duration delay)
+    {
+        clock.schedule(task, delay);
+    }
+
+    @Override
+    public boolean measuresRealTime()
+    {
+        return false;
+    }
+}
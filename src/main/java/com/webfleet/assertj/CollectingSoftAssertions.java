@@ -0,0 +1,82 @@
+package com.webfleet.assertj;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.AssertionErrorCollector;
+import org.assertj.core.api.SoftAssertions;
+
+
+/**
+ * {@link SoftAssertions} collecting the errors with this delegate collector.
+ * <p>
+ * The collected errors can be checked without {@link SoftAssertions#assertAll()}, which decorates each error with the line number
+ * and renders the message of all errors. The instance can be reused by the checks of single await - the errors are cleared by {@link #reset()}.
+ * The instance is not thread-safe - the checks of single await are never executed concurrently.
+ */
+final class CollectingSoftAssertions implements AssertionErrorCollector
+{
+    private final List<AssertionError> errors = new ArrayList<>();
+    private final SoftAssertions assertions = new SoftAssertions();
+    private boolean wasSuccess = true;
+
+    CollectingSoftAssertions()
+    {
+        assertions.setDelegate(this);
+    }
+
+    /**
+     * Clears the errors collected by previous check.
+     *
+     * @return this instance
+     */
+    CollectingSoftAssertions reset()
+    {
+        errors.clear();
+        wasSuccess = true;
+        return this;
+    }
+
+    SoftAssertions assertions()
+    {
+        return assertions;
+    }
+
+    boolean hasErrors()
+    {
+        return !errors.isEmpty();
+    }
+
+    int errorCount()
+    {
+        return errors.size();
+    }
+
+    @Override
+    public void collectAssertionError(final AssertionError error)
+    {
+        errors.add(error);
+        wasSuccess = false;
+    }
+
+    @Override
+    public List<AssertionError> assertionErrorsCollected()
+    {
+        // the copy is kept by the failed result, while the reused list is cleared by next check
+        return errors.isEmpty() ? emptyList() : new ArrayList<>(errors);
+    }
+
+    @Override
+    public void succeeded()
+    {
+        wasSuccess = true;
+    }
+
+    @Override
+    public boolean wasSuccess()
+    {
+        return wasSuccess;
+    }
+}
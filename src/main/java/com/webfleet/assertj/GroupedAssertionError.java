@@ -0,0 +1,39 @@
+package com.webfleet.assertj;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.joining;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.NonNull;
+
+
+/**
+ * Assertion error grouping failures of named conditions checked together.
+ * The failures are flattened by {@link AsyncAssertionErrorCreator} with condition name as the label of each failure.
+ */
+final class GroupedAssertionError extends AssertionError
+{
+    private static final long serialVersionUID = -3518465107372361406L;
+
+    private final transient Map<String, AssertionError> errors;
+
+    GroupedAssertionError(@NonNull final Map<String, AssertionError> errors)
+    {
+        super(errors.entrySet().stream()
+            .map(error -> label(error.getKey(), error.getValue().getMessage()))
+            .collect(joining("\n")));
+        this.errors = unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+
+    Map<String, AssertionError> errors()
+    {
+        return errors;
+    }
+
+    static String label(@NonNull final String name, final String message)
+    {
+        return "[" + name + "] " + message;
+    }
+}
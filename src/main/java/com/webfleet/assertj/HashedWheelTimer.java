@@ -0,0 +1,188 @@
+package com.webfleet.assertj;
+
+import static java.util.logging.Level.WARNING;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+
+
+/**
+ * Hashed wheel timer driving scheduled tasks from single ticking thread.
+ * <p>
+ * Registration is O(1) - the task is added to lock-free queue, which is drained by the worker thread into wheel buckets on the next tick.
+ * Each bucket keeps the tasks expiring in the same tick modulo wheel size, together with number of remaining wheel rounds,
+ * so each tick processes only the tasks from single bucket.
+ * The task is never executed before its delay, and at most single tick after it.
+ * <p>
+ * Tasks are executed on the worker thread, so they should be short.
+ * The worker thread is parked when there are no pending tasks.
+ */
+@Log
+final class HashedWheelTimer
+{
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<TimerTask> registrations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final long startTime = System.nanoTime();
+    private final Thread worker;
+    private long tick;
+
+    HashedWheelTimer(@NonNull final String name, @NonNull final Duration tickDuration, final int wheelSize)
+    {
+        if (tickDuration.compareTo(Duration.ZERO) <= 0)
+        {
+            throw new IllegalArgumentException("tickDuration must be greater than zero");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1)
+        {
+            throw new IllegalArgumentException("wheelSize must be positive power of two");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[wheelSize];
+        for (var i = 0; i < wheelSize; i++)
+        {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.worker = new Thread(this::work, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void schedule(@NonNull final Runnable task, @NonNull final Duration delay)
+    {
+        final var deadline = System.nanoTime() - startTime + Math.max(0L, delay.toNanos());
+        registrations.add(new TimerTask(task, deadline));
+        if (pendingTasks.getAndIncrement() == 0)
+        {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    int pendingTasks()
+    {
+        return pendingTasks.get();
+    }
+
+    void stop()
+    {
+        worker.interrupt();
+    }
+
+    private void work()
+    {
+        while (!Thread.currentThread().isInterrupted())
+        {
+            awaitNextTick();
+            transferRegistrations();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void awaitNextTick()
+    {
+        if (pendingTasks.get() == 0)
+        {
+            LockSupport.park(this);
+            // skipping the ticks passed while idle - there were no tasks in the wheel
+            tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+        }
+        final var tickDeadline = (tick + 1) * tickNanos;
+        var remaining = tickDeadline - (System.nanoTime() - startTime);
+        while (remaining > 0L)
+        {
+            LockSupport.parkNanos(this, remaining);
+            remaining = tickDeadline - (System.nanoTime() - startTime);
+        }
+    }
+
+    private void transferRegistrations()
+    {
+        TimerTask task;
+        while ((task = registrations.poll()) != null)
+        {
+            // the tick is processed after its end, so the task is expiring in tick ending not before the deadline
+            final var expirationTick = Math.max(tick, (task.deadline + tickNanos - 1) / tickNanos - 1);
+            task.remainingRounds = (expirationTick - tick) / wheel.length;
+            wheel[(int) (expirationTick & mask)].add(task);
+        }
+    }
+
+    private void expire(final Bucket bucket)
+    {
+        TimerTask previous = null;
+        var task = bucket.head;
+        while (task != null)
+        {
+            final var next = task.next;
+            if (task.remainingRounds <= 0L)
+            {
+                bucket.remove(task, previous);
+                run(task);
+            }
+            else
+            {
+                task.remainingRounds--;
+                previous = task;
+            }
+            task = next;
+        }
+    }
+
+    private void run(final TimerTask task)
+    {
+        pendingTasks.decrementAndGet();
+        try
+        {
+            task.task.run();
+        }
+        catch (final Throwable e)
+        {
+            // the worker is shared by all scheduled tasks, so it must survive any failure of single task
+            LOG.log(WARNING, "Scheduled task failed", e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TimerTask
+    {
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private TimerTask next;
+    }
+
+    private static final class Bucket
+    {
+        private TimerTask head;
+
+        void add(final TimerTask task)
+        {
+            task.next = head;
+            head = task;
+        }
+
+        void remove(final TimerTask task, final TimerTask previous)
+        {
+            if (previous == null)
+            {
+                head = task.next;
+            }
+            else
+            {
+                previous.next = task.next;
+            }
+            task.next = null;
+        }
+    }
+}
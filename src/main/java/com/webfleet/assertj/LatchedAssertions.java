@@ -0,0 +1,24 @@
+package com.webfleet.assertj;
+
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+
+
+/**
+ * Assertions of the await started with {@link AsyncAssert#untilLatchedAssertions}, split into separately latched groups.
+ * <p>
+ * Each group of assertions is identified by its position - the order of {@link #check(Consumer)} calls in the configuring consumer,
+ * so the calls must be made in the same order on each check. The group which passed is latched and skipped by the next checks,
+ * while the failed groups keep being checked. When all groups passed, the final confirmation check evaluates all of them once again.
+ */
+public interface LatchedAssertions
+{
+    /**
+     * Checks the group of assertions, unless it already passed in one of the previous checks.
+     * The expensive queries of the assertions should be made inside the consumer, so they're skipped with the latched group.
+     *
+     * @param assertions lambda consumer configuring {@link SoftAssertions} object
+     */
+    void check(Consumer<SoftAssertions> assertions);
+}
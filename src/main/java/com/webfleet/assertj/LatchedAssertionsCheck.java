@@ -0,0 +1,69 @@
+package com.webfleet.assertj;
+
+import java.util.BitSet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.SoftAssertions;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * Check of the await with {@link LatchedAssertions}, skipping the groups of assertions which already passed.
+ * <p>
+ * Once all groups are passed or latched, the confirmation pass evaluates all groups without skipping.
+ * The groups failing in the confirmation pass are unlatched, so they keep being checked by the next checks.
+ * The instance keeps the state of single await, which checks are never executed concurrently.
+ */
+@RequiredArgsConstructor
+final class LatchedAssertionsCheck implements LatchedAssertions, Supplier<AsyncAssertResult>
+{
+    @NonNull
+    private final Consumer<LatchedAssertions> assertionsConfigurer;
+    @NonNull
+    private final Supplier<CollectingSoftAssertions> softAssertions;
+    private final BitSet passedPositions = new BitSet();
+    private CollectingSoftAssertions currentAssertions;
+    private int position;
+    private boolean skipping;
+    private boolean skipped;
+
+    @Override
+    public AsyncAssertResult get()
+    {
+        final var result = evaluate(true);
+        if (result.hasFailed() || !skipped)
+        {
+            return result;
+        }
+        return evaluate(false);
+    }
+
+    @Override
+    public void check(@NonNull final Consumer<SoftAssertions> assertions)
+    {
+        final var currentPosition = position++;
+        if (skipping && passedPositions.get(currentPosition))
+        {
+            skipped = true;
+            return;
+        }
+        final var errorCount = currentAssertions.errorCount();
+        assertions.accept(currentAssertions.assertions());
+        passedPositions.set(currentPosition, currentAssertions.errorCount() == errorCount);
+    }
+
+    private AsyncAssertResult evaluate(final boolean skipPassed)
+    {
+        final var assertions = softAssertions.get();
+        return AsyncAssertResult.evaluate(softly -> {
+            currentAssertions = assertions;
+            position = 0;
+            skipping = skipPassed;
+            skipped = false;
+            assertionsConfigurer.accept(this);
+        }, assertions);
+    }
+}
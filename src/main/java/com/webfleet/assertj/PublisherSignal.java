@@ -0,0 +1,104 @@
+package com.webfleet.assertj;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.NonNull;
+
+
+/**
+ * Subscriber turning the elements published by {@link Flow.Publisher} into {@link AsyncSignal} notifications.
+ * <p>
+ * The demand is bounded to single element - the next element is requested only after the previous one was received
+ * and the assertions were checked.
+ * The terminal publisher events are signalled as well, so the assertions are checked for the last time.
+ */
+final class PublisherSignal implements Flow.Subscriber<Object>
+{
+    private final AsyncSignal signal = new AsyncSignal();
+    private final AtomicBoolean elementRequested = new AtomicBoolean();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+    private volatile boolean terminated;
+    private volatile Throwable error;
+
+    AsyncSignal signal()
+    {
+        return signal;
+    }
+
+    boolean isTerminated()
+    {
+        return terminated;
+    }
+
+    Throwable error()
+    {
+        return error;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull final Flow.Subscription subscription)
+    {
+        if (this.subscription != null)
+        {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        if (cancelled)
+        {
+            subscription.cancel();
+            return;
+        }
+        requestNext();
+    }
+
+    @Override
+    public void onNext(final Object element)
+    {
+        elementRequested.set(false);
+        signal.signal();
+    }
+
+    @Override
+    public void onError(final Throwable error)
+    {
+        this.error = error;
+        terminate();
+    }
+
+    @Override
+    public void onComplete()
+    {
+        terminate();
+    }
+
+    /**
+     * Requests next element, unless the previously requested element was not received yet.
+     */
+    void requestNext()
+    {
+        final var currentSubscription = subscription;
+        if (currentSubscription != null && !terminated && !cancelled && elementRequested.compareAndSet(false, true))
+        {
+            currentSubscription.request(1L);
+        }
+    }
+
+    void cancel()
+    {
+        cancelled = true;
+        final var currentSubscription = subscription;
+        if (currentSubscription != null && !terminated)
+        {
+            currentSubscription.cancel();
+        }
+    }
+
+    private void terminate()
+    {
+        terminated = true;
+        signal.signal();
+    }
+}
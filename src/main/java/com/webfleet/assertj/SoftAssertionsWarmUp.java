@@ -0,0 +1,99 @@
+package com.webfleet.assertj;
+
+import static java.util.logging.Level.WARNING;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+
+/**
+ * Warm-up of AssertJ soft assertion proxies, generated on the first usage of each assert type.
+ * <p>
+ * The warm-up is started once per JVM on a daemon thread, so it doesn't block the caller.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Log
+final class SoftAssertionsWarmUp
+{
+    private static final String THREAD_NAME = "assertj-async-warm-up";
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    static CompletableFuture<Void> start()
+    {
+        return WarmUpHolder.WARM_UP;
+    }
+
+    /**
+     * Checks whether the warm-up was started, without starting it.
+     *
+     * @return true if the warm-up was started
+     */
+    static boolean isStarted()
+    {
+        return STARTED.get();
+    }
+
+    private static void warmUp()
+    {
+        // the proxies of the types most commonly used in async assertions
+        final var assertions = new SoftAssertions();
+        assertions.assertThat(new Object()).isNotNull();
+        assertions.assertThat(true).isTrue();
+        assertions.assertThat(1).isPositive();
+        assertions.assertThat(1L).isPositive();
+        assertions.assertThat(1.0).isPositive();
+        assertions.assertThat("warm-up").isNotEmpty();
+        assertions.assertThat(List.of(1)).isNotEmpty();
+        assertions.assertThat(Map.of(1, 1)).isNotEmpty();
+        assertions.assertThat(Optional.of(1)).isPresent();
+        assertions.assertThat(Duration.ofMillis(1L)).isPositive();
+        assertions.assertThat(CompletableFuture.completedFuture(1)).isDone();
+        assertions.assertThat(new AtomicBoolean(true)).isTrue();
+        assertions.assertThat(new AtomicInteger(1)).hasPositiveValue();
+        assertions.assertThat(new AtomicLong(1L)).hasPositiveValue();
+        assertions.assertThat(new AtomicReference<>(1)).hasValue(1);
+        assertions.assertAll();
+        // failed check path, used when the await timeout is exceeded
+        AsyncAssertionErrorCreator.create("warm-up", new AssertionError("warm-up"));
+    }
+
+    private static Executor daemonThreadExecutor()
+    {
+        return task -> {
+            final var thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    private static final class WarmUpHolder
+    {
+        private static final CompletableFuture<Void> WARM_UP = CompletableFuture
+            .runAsync(SoftAssertionsWarmUp::warmUp, daemonThreadExecutor())
+            .whenComplete((result, error) -> {
+                if (error != null)
+                {
+                    LOG.log(WARNING, "Soft assertions warm-up failed", error);
+                }
+            });
+
+        static
+        {
+            STARTED.set(true);
+        }
+    }
+}
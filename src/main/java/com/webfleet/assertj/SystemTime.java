@@ -1,56 +1,102 @@
 package com.webfleet.assertj;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.logging.Level.WARNING;
 
-import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.java.Log;
 
 
-@AllArgsConstructor(staticName = "withClock")
+@AllArgsConstructor(staticName = "withTicker")
 final class SystemTime implements Time
 {
-    static final SystemTime UTC = SystemTime.withClock(Clock.systemUTC());
+    /**
+     * Time measured with {@link System#nanoTime()}, which is not affected by system clock adjustments.
+     */
+    static final SystemTime MONOTONIC = SystemTime.withTicker(System::nanoTime);
 
     @NonNull
-    private final Clock clock;
+    private final LongSupplier ticker;
 
     @Override
     public ElapsedTime measure()
     {
-        final var startTime = clock.millis();
-        return () -> Duration.ofMillis(clock.millis() - startTime);
+        final var startTime = ticker.getAsLong();
+        return () -> ticker.getAsLong() - startTime;
     }
 
     @Override
     public WaitCondition waitCondition(@NonNull final Object waitMutex)
     {
+        if (waitMutex instanceof AsyncSignal)
+        {
+            return ((AsyncSignal) waitMutex).waitCondition();
+        }
         return MutexWaitCondition.create(waitMutex);
     }
 
+    @Override
+    public void schedule(@NonNull final Runnable task, @NonNull final Duration delay)
+    {
+        SharedTimer.TIMER.schedule(task, delay);
+    }
+
+    @Override
+    public boolean measuresRealTime()
+    {
+        return true;
+    }
+
+    /**
+     * Lazily initialized timer shared by all asynchronous assertions.
+     * Uses single daemon thread, so it doesn't prevent JVM shutdown.
+     * With 1ms tick the wheel of 512 buckets covers the default check intervals in single round.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class SharedTimer
+    {
+        private static final HashedWheelTimer TIMER = new HashedWheelTimer("assertj-async-timer", Duration.ofMillis(1L), 512);
+    }
+
+    /**
+     * Waits on the mutex object monitor, so the wait can be ended with {@link Object#notifyAll()} call.
+     * Sub-millisecond intervals are below the monitor wait resolution, so they are waited with {@link LockSupport#parkNanos(long)}.
+     */
     @AllArgsConstructor(staticName = "create", access = AccessLevel.PRIVATE)
     @Log
     private static final class MutexWaitCondition implements WaitCondition
     {
+        private static final long MONITOR_WAIT_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
         private final Object waitMutex;
 
         @Override
         @SuppressWarnings("squid:S2274")
         public void waitFor(@NonNull final Duration waitInterval)
         {
-            if (waitInterval.compareTo(Duration.ZERO) <= 0)
+            final var waitNanos = waitInterval.toNanos();
+            if (waitNanos <= 0L)
+            {
+                return;
+            }
+            if (waitNanos < MONITOR_WAIT_RESOLUTION_NANOS)
             {
+                LockSupport.parkNanos(waitNanos);
                 return;
             }
             synchronized (waitMutex)
             {
                 try
                 {
-                    waitMutex.wait(waitInterval.toMillis());
+                    NANOSECONDS.timedWait(waitMutex, waitNanos);
                 }
                 catch (@SuppressWarnings("unused") final InterruptedException e)
                 {
@@ -11,19 +11,36 @@ interface Time
 
     WaitCondition waitCondition(Object mutex);
 
+    void schedule(Runnable task, Duration delay);
+
+    /**
+     * Tells whether the elapsed time follows the real time, so the await deadline can limit the work measured by the system clock.
+     *
+     * @return true if the time advances with the real time
+     */
+    boolean measuresRealTime();
+
+    /**
+     * Elapsed time measured in nanoseconds, compared without allocating {@link Duration} objects.
+     */
     @FunctionalInterface
     interface ElapsedTime
     {
-        Duration get();
+        long nanos();
+
+        default Duration get()
+        {
+            return Duration.ofNanos(nanos());
+        }
 
         default boolean isLowerThanOrEqualTo(@NonNull final Duration duration)
         {
-            return get().compareTo(duration) <= 0;
+            return nanos() <= duration.toNanos();
         }
 
         default boolean isLowerThan(@NonNull final Duration duration)
         {
-            return get().compareTo(duration) < 0;
+            return nanos() < duration.toNanos();
         }
     }
 
@@ -31,5 +48,16 @@ interface Time
     interface WaitCondition
     {
         void waitFor(Duration interval);
+
+        /**
+         * Checks without blocking whether the wait was ended by a signal sent since the last wait.
+         * The observed signal is consumed, so the next wait is not ended by it.
+         *
+         * @return true if the condition was signalled
+         */
+        default boolean isSignalled()
+        {
+            return false;
+        }
     }
 }
@@ -0,0 +1,279 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.webfleet.assertj.Time.ElapsedTime;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * Check evaluated on the worker thread, limited by the check timeout.
+ * <p>
+ * The check exceeding the limit is interrupted and reported as failed, with the stack trace of the worker thread at the moment of the timeout,
+ * so the await doesn't block longer than the limit even if the assertions are blocked by the hung dependency.
+ * The worker thread which ignores the interruption can't be stopped safely, so it's left running,
+ * but the next check is not started until it ends - the checks of single await share the state which is not thread-safe.
+ * Meanwhile, each check is reported as timed out with the current stack trace of the worker.
+ * <p>
+ * The limit is measured by the system clock. When the await is measured by the real time as well,
+ * the limit is shortened to the time remaining until the await timeout, so the timeout is not exceeded by the blocked check.
+ * The check started at the timeout gets a short grace period instead, so it can still report its own result.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class TimedCheck implements Supplier<AsyncAssertResult>
+{
+    private static final long FINAL_CHECK_GRACE_NANOS = MILLISECONDS.toNanos(10L);
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(new WorkerThreadFactory());
+
+    private final Supplier<AsyncAssertResult> check;
+    private final Duration checkTimeout;
+    private final Duration timeout;
+    private final ElapsedTime elapsedTime;
+    private final boolean limitedByTimeout;
+    private volatile Evaluation pendingEvaluation;
+
+    /**
+     * Creates the check limited by the check timeout of the await, if configured.
+     *
+     * @param check       the check of the await
+     * @param config      configuration of the await
+     * @param time        time of the await
+     * @param elapsedTime elapsed time of the await
+     * @return {@link TimedCheck} if the check timeout is configured, otherwise the given check
+     */
+    static Supplier<AsyncAssertResult> of(@NonNull final Supplier<AsyncAssertResult> check,
+                                          @NonNull final AsyncAssertAwaitConfig config,
+                                          @NonNull final Time time,
+                                          @NonNull final ElapsedTime elapsedTime)
+    {
+        if (config.checkTimeout() == null)
+        {
+            return check;
+        }
+        return new TimedCheck(check, config.checkTimeout(), config.timeout(), elapsedTime, time.measuresRealTime());
+    }
+
+    @Override
+    public AsyncAssertResult get()
+    {
+        final var limitNanos = limitNanos();
+        final var deadline = System.nanoTime() + limitNanos;
+        try
+        {
+            final var previousEvaluation = pendingEvaluation;
+            if (previousEvaluation != null)
+            {
+                if (!previousEvaluation.awaitFinished(limitNanos))
+                {
+                    return previousEvaluation.timedOut(limitNanos);
+                }
+                pendingEvaluation = null;
+            }
+            final var evaluation = start();
+            try
+            {
+                return evaluation.result.get(Math.max(0L, deadline - System.nanoTime()), NANOSECONDS);
+            }
+            catch (final TimeoutException e)
+            {
+                return abandon(evaluation, limitNanos);
+            }
+            catch (final InterruptedException e)
+            {
+                abandon(evaluation, limitNanos);
+                throw e;
+            }
+            catch (final ExecutionException e)
+            {
+                throw rethrown(e.getCause());
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return AsyncAssertResult.undefined();
+        }
+    }
+
+    /**
+     * Evaluates the check without blocking the calling thread, used by the asynchronous await checked by the shared timer thread.
+     * The check is not started while the previously interrupted check is still running.
+     *
+     * @return future of the check result, completed exceptionally with the exception thrown by the check
+     */
+    CompletableFuture<AsyncAssertResult> getAsync()
+    {
+        final var limitNanos = limitNanos();
+        final var previousEvaluation = pendingEvaluation;
+        if (previousEvaluation != null)
+        {
+            if (!previousEvaluation.finished.isDone())
+            {
+                return CompletableFuture.completedFuture(previousEvaluation.timedOut(limitNanos));
+            }
+            pendingEvaluation = null;
+        }
+        final var evaluation = start();
+        return evaluation.result
+            .orTimeout(limitNanos, NANOSECONDS)
+            .handle((result, error) -> {
+                if (error == null)
+                {
+                    return result;
+                }
+                final var cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof TimeoutException)
+                {
+                    return abandon(evaluation, limitNanos);
+                }
+                throw new CompletionException(cause);
+            });
+    }
+
+    private long limitNanos()
+    {
+        final var checkTimeoutNanos = checkTimeout.toNanos();
+        if (!limitedByTimeout)
+        {
+            return checkTimeoutNanos;
+        }
+        final var remainingNanos = timeout.toNanos() - elapsedTime.nanos();
+        return Math.min(checkTimeoutNanos, Math.max(remainingNanos, FINAL_CHECK_GRACE_NANOS));
+    }
+
+    private Evaluation start()
+    {
+        final var evaluation = new Evaluation();
+        evaluation.task = WORKERS.submit(evaluation);
+        return evaluation;
+    }
+
+    /**
+     * Interrupts the evaluation exceeding the limit, keeping it as pending until its worker ends.
+     */
+    private AsyncAssertResult abandon(final Evaluation evaluation, final long limitNanos)
+    {
+        final var result = evaluation.timedOut(limitNanos);
+        if (evaluation.abandon())
+        {
+            pendingEvaluation = evaluation;
+        }
+        return result;
+    }
+
+    private static RuntimeException rethrown(final Throwable error)
+    {
+        if (error instanceof Error)
+        {
+            throw (Error) error;
+        }
+        return error instanceof RuntimeException ? (RuntimeException) error : new IllegalStateException(error);
+    }
+
+    /**
+     * Single evaluation of the check on the worker thread.
+     */
+    private final class Evaluation implements Runnable
+    {
+        private final CompletableFuture<AsyncAssertResult> result = new CompletableFuture<>();
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile Thread worker;
+        private volatile Future<?> task;
+
+        @Override
+        public void run()
+        {
+            if (!started.compareAndSet(false, true))
+            {
+                // abandoned before start
+                return;
+            }
+            worker = Thread.currentThread();
+            try
+            {
+                result.complete(check.get());
+            }
+            catch (final RuntimeException | Error e)
+            {
+                result.completeExceptionally(e);
+            }
+            finally
+            {
+                worker = null;
+                finished.complete(null);
+            }
+        }
+
+        /**
+         * Interrupts the evaluation.
+         *
+         * @return true if the evaluation is still running
+         */
+        boolean abandon()
+        {
+            if (started.compareAndSet(false, true))
+            {
+                finished.complete(null);
+                return false;
+            }
+            task.cancel(true);
+            return !finished.isDone();
+        }
+
+        boolean awaitFinished(final long limitNanos) throws InterruptedException
+        {
+            try
+            {
+                finished.get(limitNanos, NANOSECONDS);
+                return true;
+            }
+            catch (final TimeoutException e)
+            {
+                return false;
+            }
+            catch (final ExecutionException e)
+            {
+                // never completed exceptionally
+                return true;
+            }
+        }
+
+        AsyncAssertResult timedOut(final long limitNanos)
+        {
+            final var currentWorker = worker;
+            return AsyncAssertResult.timedOut(Duration.ofNanos(limitNanos),
+                currentWorker != null ? currentWorker.getStackTrace() : new StackTraceElement[0]);
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull final Runnable task)
+        {
+            final var thread = new Thread(task, "assertj-async-check-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
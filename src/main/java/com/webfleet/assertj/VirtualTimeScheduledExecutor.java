@@ -0,0 +1,546 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import lombok.NonNull;
+
+
+/**
+ * {@link ScheduledExecutorService} running the tasks in virtual time, which is advanced explicitly instead of passing by itself.
+ * <p>
+ * The tasks are never executed by background threads - they are executed by the thread advancing the virtual time,
+ * one by one in the order of their deadlines, with the virtual time set to the deadline of each task.
+ * So the system under test scheduling its work with hour-long delays can be tested in milliseconds, deterministically.
+ * <p>
+ * The executor is also {@link AsyncClock}, so it can be used by asynchronous assertions with {@link AsyncAssert#usingClock(AsyncClock)}.
+ * The wait in between the assertions checks jumps the virtual time straight to the next task deadline or the end of the check interval,
+ * whichever comes first, so the assertions are checked right after each executed task.
+ * <p>
+ * The virtual time is advanced by:
+ * <ul>
+ *     <li>the waits of asynchronous assertions using the executor as clock</li>
+ *     <li>{@link #advanceBy(Duration)} and {@link #runDueTasks()} calls</li>
+ *     <li>{@link Future#get()} of the submitted task, advancing until the task is done</li>
+ *     <li>{@link #awaitTermination(long, TimeUnit)} after shutdown, advancing until the remaining tasks are done</li>
+ * </ul>
+ * After {@link #shutdown()} the periodic tasks are cancelled and the delayed tasks are still executed when the time is advanced.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * // given
+ * var executor = new VirtualTimeScheduledExecutor();
+ * var reportGenerator = new ReportGenerator(executor); // schedules the report every hour
+ *
+ * // when
+ * reportGenerator.start();
+ *
+ * // then
+ * awaitAtMost(Duration.ofHours(3))
+ *     .usingClock(executor)
+ *     .untilAssertions(async -> {
+ *         async.assertThat(reportGenerator.generatedReports()).hasSize(2);
+ *     });
+ * }</pre>
+ */
+public final class VirtualTimeScheduledExecutor implements ScheduledExecutorService, AsyncClock
+{
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final ReentrantLock clockLock = new ReentrantLock();
+    private final PriorityQueue<VirtualTask<?>> tasks = new PriorityQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long nanoTime;
+    private volatile long executedTaskCount;
+    private volatile boolean shutdown;
+
+    /**
+     * Returns the virtual time elapsed since the executor creation.
+     *
+     * @return the elapsed virtual time
+     */
+    public Duration elapsed()
+    {
+        return Duration.ofNanos(nanoTime);
+    }
+
+    /**
+     * Advances the virtual time by given duration, executing all tasks with deadline within the duration.
+     *
+     * @param duration the duration to advance the virtual time by, greater than or equal to zero
+     */
+    public void advanceBy(@NonNull final Duration duration)
+    {
+        if (duration.isNegative())
+        {
+            throw new IllegalArgumentException("duration must be greater than or equal to zero");
+        }
+        advance(nanoTime + duration.toNanos(), () -> false);
+    }
+
+    /**
+     * Executes the tasks due at the current virtual time, including the tasks submitted without delay, without advancing the time.
+     */
+    public void runDueTasks()
+    {
+        advance(nanoTime, () -> false);
+    }
+
+    @Override
+    public long nanoTime()
+    {
+        return nanoTime;
+    }
+
+    /**
+     * Advances the virtual time to the deadline of the next task and executes all tasks due at that time,
+     * or advances it by the whole interval if there is no task with deadline within the interval.
+     *
+     * @param interval the maximum duration to advance the virtual time by
+     */
+    @Override
+    public void waitFor(@NonNull final Duration interval)
+    {
+        final var initialExecutedTaskCount = executedTaskCount;
+        advance(nanoTime + Math.max(0L, interval.toNanos()),
+            () -> executedTaskCount != initialExecutedTaskCount && nextDeadline() > nanoTime);
+    }
+
+    /**
+     * Schedules the asynchronous assertions check as the task of this executor,
+     * so it's executed when the virtual time is advanced, e.g. with {@link #advanceBy(Duration)}.
+     *
+     * @param task  the task to be executed
+     * @param delay the delay of the task execution
+     */
+    @Override
+    public void schedule(@NonNull final Runnable task, @NonNull final Duration delay)
+    {
+        schedule(task, delay.toNanos(), NANOSECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(@NonNull final Runnable command, final long delay, @NonNull final TimeUnit unit)
+    {
+        return enqueue(new VirtualTask<>(Executors.callable(command, null), deadline(delay, unit), 0L));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(@NonNull final Callable<V> callable, final long delay, @NonNull final TimeUnit unit)
+    {
+        return enqueue(new VirtualTask<>(callable, deadline(delay, unit), 0L));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@NonNull final Runnable command, final long initialDelay, final long period,
+                                                  @NonNull final TimeUnit unit)
+    {
+        if (period <= 0L)
+        {
+            throw new IllegalArgumentException("period must be greater than zero");
+        }
+        return enqueue(new VirtualTask<>(Executors.callable(command, null), deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@NonNull final Runnable command, final long initialDelay, final long delay,
+                                                     @NonNull final TimeUnit unit)
+    {
+        if (delay <= 0L)
+        {
+            throw new IllegalArgumentException("delay must be greater than zero");
+        }
+        return enqueue(new VirtualTask<>(Executors.callable(command, null), deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(@NonNull final Runnable command)
+    {
+        schedule(command, 0L, NANOSECONDS);
+    }
+
+    @Override
+    public <T> Future<T> submit(@NonNull final Callable<T> task)
+    {
+        return schedule(task, 0L, NANOSECONDS);
+    }
+
+    @Override
+    public <T> Future<T> submit(@NonNull final Runnable task, final T result)
+    {
+        return schedule(Executors.callable(task, result), 0L, NANOSECONDS);
+    }
+
+    @Override
+    public Future<?> submit(@NonNull final Runnable task)
+    {
+        return schedule(task, 0L, NANOSECONDS);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(@NonNull final Collection<? extends Callable<T>> callables) throws InterruptedException
+    {
+        final var futures = submitAll(callables);
+        for (final var future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (final ExecutionException e)
+            {
+                // reported by the future
+            }
+        }
+        return new ArrayList<>(futures);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(@NonNull final Collection<? extends Callable<T>> callables, final long timeout,
+                                         @NonNull final TimeUnit unit) throws InterruptedException
+    {
+        final var futures = submitAll(callables);
+        advance(deadline(timeout, unit), () -> futures.stream().allMatch(Future::isDone));
+        futures.forEach(future -> future.cancel(false));
+        return new ArrayList<>(futures);
+    }
+
+    @Override
+    public <T> T invokeAny(@NonNull final Collection<? extends Callable<T>> callables) throws InterruptedException, ExecutionException
+    {
+        try
+        {
+            return invokeAny(callables, UNBOUNDED, NANOSECONDS);
+        }
+        catch (final TimeoutException e)
+        {
+            throw new ExecutionException(e);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(@NonNull final Collection<? extends Callable<T>> callables, final long timeout, @NonNull final TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException
+    {
+        if (callables.isEmpty())
+        {
+            throw new IllegalArgumentException("callables must not be empty");
+        }
+        final var futures = submitAll(callables);
+        try
+        {
+            advance(deadline(timeout, unit), () -> futures.stream().anyMatch(VirtualTask::isCompletedNormally)
+                || futures.stream().allMatch(Future::isDone));
+            ExecutionException lastFailure = null;
+            for (final var future : futures)
+            {
+                if (future.isCompletedNormally())
+                {
+                    return future.get();
+                }
+                if (future.isDone())
+                {
+                    try
+                    {
+                        future.get();
+                    }
+                    catch (final ExecutionException e)
+                    {
+                        lastFailure = e;
+                    }
+                }
+            }
+            if (lastFailure != null && futures.stream().allMatch(Future::isDone))
+            {
+                throw lastFailure;
+            }
+            throw new TimeoutException();
+        }
+        finally
+        {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    @Override
+    public void shutdown()
+    {
+        shutdown = true;
+        synchronized (tasks)
+        {
+            tasks.removeIf(task -> task.isPeriodic() && task.cancel(false));
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        shutdown = true;
+        synchronized (tasks)
+        {
+            final List<Runnable> pendingTasks = new ArrayList<>(tasks);
+            tasks.clear();
+            return pendingTasks;
+        }
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        if (!shutdown || clockLock.isLocked())
+        {
+            return false;
+        }
+        synchronized (tasks)
+        {
+            return tasks.isEmpty();
+        }
+    }
+
+    /**
+     * Advances the virtual time by up to given timeout, until all the tasks remaining after shutdown are executed.
+     *
+     * @param timeout the maximum virtual time to wait
+     * @param unit    the time unit of the timeout
+     * @return true if the executor terminated
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit)
+    {
+        if (shutdown)
+        {
+            advance(deadline(timeout, unit), () -> nextDeadline() == UNBOUNDED);
+        }
+        return isTerminated();
+    }
+
+    private <T> List<VirtualTask<T>> submitAll(final Collection<? extends Callable<T>> callables)
+    {
+        final var futures = new ArrayList<VirtualTask<T>>(callables.size());
+        for (final var callable : callables)
+        {
+            futures.add(enqueue(new VirtualTask<>(callable, nanoTime, 0L)));
+        }
+        return futures;
+    }
+
+    private <T> VirtualTask<T> enqueue(final VirtualTask<T> task)
+    {
+        if (shutdown)
+        {
+            throw new RejectedExecutionException("virtual time executor was shut down");
+        }
+        synchronized (tasks)
+        {
+            tasks.add(task);
+        }
+        return task;
+    }
+
+    /**
+     * Executes the tasks in the order of deadlines until the target time, setting the virtual time to the deadline of each task.
+     * The stop condition is checked before each task and ends the advance without moving the time to the target.
+     */
+    private void advance(final long targetNanoTime, final BooleanSupplier stopCondition)
+    {
+        clockLock.lock();
+        try
+        {
+            while (!stopCondition.getAsBoolean())
+            {
+                final var task = pollDueTask(targetNanoTime);
+                if (task == null)
+                {
+                    if (targetNanoTime != UNBOUNDED && targetNanoTime > nanoTime)
+                    {
+                        nanoTime = targetNanoTime;
+                    }
+                    return;
+                }
+                if (task.deadline > nanoTime)
+                {
+                    nanoTime = task.deadline;
+                }
+                task.run();
+                executedTaskCount++;
+            }
+        }
+        finally
+        {
+            clockLock.unlock();
+        }
+    }
+
+    private VirtualTask<?> pollDueTask(final long targetNanoTime)
+    {
+        synchronized (tasks)
+        {
+            final var task = tasks.peek();
+            if (task == null || task.deadline > targetNanoTime)
+            {
+                return null;
+            }
+            return tasks.poll();
+        }
+    }
+
+    private long nextDeadline()
+    {
+        synchronized (tasks)
+        {
+            final var task = tasks.peek();
+            return task == null ? UNBOUNDED : task.deadline;
+        }
+    }
+
+    private long deadline(final long delay, final TimeUnit unit)
+    {
+        final var delayNanos = Math.max(0L, unit.toNanos(delay));
+        final var currentNanoTime = nanoTime;
+        return delayNanos > UNBOUNDED - currentNanoTime ? UNBOUNDED : currentNanoTime + delayNanos;
+    }
+
+    /**
+     * Task scheduled in virtual time.
+     * The blocking {@link #get()} methods advance the virtual time until the task is done, instead of waiting.
+     */
+    private final class VirtualTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V>
+    {
+        private final long sequenceNumber = sequence.getAndIncrement();
+        /**
+         * Zero for one-shot task, positive for fixed rate and negative for fixed delay periodic tasks.
+         */
+        private final long period;
+        private volatile long deadline;
+
+        private VirtualTask(final Callable<V> callable, final long deadline, final long period)
+        {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic()
+        {
+            return period != 0L;
+        }
+
+        @Override
+        public long getDelay(@NonNull final TimeUnit unit)
+        {
+            return unit.convert(deadline - nanoTime, NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NonNull final Delayed other)
+        {
+            if (other == this)
+            {
+                return 0;
+            }
+            if (other instanceof VirtualTask)
+            {
+                final var otherTask = (VirtualTask<?>) other;
+                final var deadlineComparison = Long.compare(deadline, otherTask.deadline);
+                return deadlineComparison != 0 ? deadlineComparison : Long.compare(sequenceNumber, otherTask.sequenceNumber);
+            }
+            return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+        }
+
+        @Override
+        public void run()
+        {
+            if (!isPeriodic())
+            {
+                super.run();
+            }
+            else if (runAndReset() && !shutdown)
+            {
+                deadline = period > 0L ? deadline + period : nanoTime - period;
+                synchronized (tasks)
+                {
+                    tasks.add(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            final var cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled)
+            {
+                synchronized (tasks)
+                {
+                    tasks.remove(this);
+                }
+            }
+            return cancelled;
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException
+        {
+            if (!isPeriodic())
+            {
+                advance(UNBOUNDED, this::isDone);
+            }
+            return super.get();
+        }
+
+        @Override
+        public V get(final long timeout, @NonNull final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+        {
+            advance(deadline(timeout, unit), this::isDone);
+            if (!isDone())
+            {
+                throw new TimeoutException();
+            }
+            return super.get();
+        }
+
+        private boolean isCompletedNormally()
+        {
+            if (!isDone() || isCancelled())
+            {
+                return false;
+            }
+            try
+            {
+                super.get();
+                return true;
+            }
+            catch (final ExecutionException | InterruptedException e)
+            {
+                return false;
+            }
+        }
+    }
+}
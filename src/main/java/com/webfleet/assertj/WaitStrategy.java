@@ -0,0 +1,135 @@
+package com.webfleet.assertj;
+
+import java.time.Duration;
+
+import com.webfleet.assertj.Time.WaitCondition;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+
+/**
+ * Strategy of waiting the check interval in between the assertion checks.
+ * <p>
+ * By default, the wait is {@link #blocking()} - the thread is parked for the whole check interval.
+ * For microsecond-latency conditions the {@link #spinThenPark(Duration, Duration)} strategy can be used,
+ * escalating the wait in stages:
+ * <ol>
+ *     <li>busy-spin with {@link Thread#onSpinWait()}</li>
+ *     <li>{@link Thread#yield()}</li>
+ *     <li>blocking wait for the rest of the check interval</li>
+ * </ol>
+ * The wait configured with {@link AsyncAssert#usingSignal(AsyncSignal)} is ended in each stage as soon as the signal is sent.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * awaitAtMostOneSecond()
+ *     .withCheckInterval(100, TimeUnit.MICROSECONDS)
+ *     .withWaitStrategy(WaitStrategy.spinThenPark(Duration.ofNanos(20_000), Duration.ofNanos(50_000)))
+ *     .untilAssertions(async -> {
+ *         async.assertThat(pipeline.isDrained()).isTrue();
+ *     });
+ * }</pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class WaitStrategy
+{
+    private static final WaitStrategy BLOCKING = new WaitStrategy(0L, 0L);
+
+    private final long spinNanos;
+    private final long yieldNanos;
+
+    /**
+     * Creates the strategy waiting the whole check interval with blocking wait.
+     *
+     * @return blocking wait strategy
+     */
+    public static WaitStrategy blocking()
+    {
+        return BLOCKING;
+    }
+
+    /**
+     * Creates the strategy busy-spinning for the given duration, then yielding for the given duration
+     * and finally blocking for the rest of the check interval.
+     *
+     * @param spinDuration  the duration of busy-spin stage, can be zero
+     * @param yieldDuration the duration of yield stage, started after the busy-spin stage, can be zero
+     * @return spin-then-park wait strategy
+     */
+    public static WaitStrategy spinThenPark(@NonNull final Duration spinDuration, @NonNull final Duration yieldDuration)
+    {
+        if (spinDuration.isNegative())
+        {
+            throw new IllegalArgumentException("spinDuration must be greater than or equal to zero");
+        }
+        if (yieldDuration.isNegative())
+        {
+            throw new IllegalArgumentException("yieldDuration must be greater than or equal to zero");
+        }
+        return new WaitStrategy(spinDuration.toNanos(), yieldDuration.toNanos());
+    }
+
+    WaitCondition apply(@NonNull final WaitCondition waitCondition)
+    {
+        if (spinNanos == 0L && yieldNanos == 0L)
+        {
+            return waitCondition;
+        }
+        return new SpinThenParkWaitCondition(waitCondition);
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private final class SpinThenParkWaitCondition implements WaitCondition
+    {
+        private final WaitCondition blockingWaitCondition;
+
+        @Override
+        public void waitFor(@NonNull final Duration waitInterval)
+        {
+            final var waitNanos = waitInterval.toNanos();
+            if (waitNanos <= 0L)
+            {
+                return;
+            }
+            final var startTime = System.nanoTime();
+            final var spinDeadline = Math.min(waitNanos, spinNanos);
+            final var yieldDeadline = spinDeadline + Math.min(yieldNanos, waitNanos - spinDeadline);
+
+            var elapsedNanos = 0L;
+            while (elapsedNanos < spinDeadline)
+            {
+                if (blockingWaitCondition.isSignalled())
+                {
+                    return;
+                }
+                Thread.onSpinWait();
+                elapsedNanos = System.nanoTime() - startTime;
+            }
+            while (elapsedNanos < yieldDeadline)
+            {
+                if (blockingWaitCondition.isSignalled())
+                {
+                    return;
+                }
+                Thread.yield();
+                elapsedNanos = System.nanoTime() - startTime;
+            }
+            if (elapsedNanos < waitNanos)
+            {
+                blockingWaitCondition.waitFor(Duration.ofNanos(waitNanos - elapsedNanos));
+            }
+        }
+
+        @Override
+        public boolean isSignalled()
+        {
+            return blockingWaitCondition.isSignalled();
+        }
+    }
+}
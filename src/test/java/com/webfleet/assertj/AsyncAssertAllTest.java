@@ -0,0 +1,301 @@
+package com.webfleet.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AsyncAssertAllTest
+{
+    private static final AsyncAssertAwaitConfig CONFIG = AsyncAssertAwaitConfig
+        .withTimeout(Duration.ofSeconds(5))
+        .withCheckInterval(Duration.ofSeconds(1));
+
+    private MockTime time;
+    private AsyncAssertAll tested;
+
+    @BeforeEach
+    void setup()
+    {
+        time = MockTime.create();
+        tested = new AsyncAssertAllImpl(new AsyncAssertImpl(time, CONFIG));
+    }
+
+    @Test
+    void shouldNotWaitWhenAllConditionsArePositiveForTheFirstTime(final SoftAssertions softly)
+    {
+        // given
+        final var first = new CountingCondition(0);
+        final var second = new CountingCondition(0);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .condition("first", first)
+            .condition("second", second)
+            .untilAllPassed());
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).isEmpty();
+        softly.assertThat(first.checkCount).hasValue(1);
+        softly.assertThat(second.checkCount).hasValue(1);
+    }
+
+    @Test
+    void shouldStopCheckingPassedConditions(final SoftAssertions softly)
+    {
+        // given
+        final var fast = new CountingCondition(1);
+        final var slow = new CountingCondition(3);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .condition("fast", fast)
+            .condition("slow", slow)
+            .untilAllPassed());
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval());
+        softly.assertThat(fast.checkCount).hasValue(2);
+        softly.assertThat(slow.checkCount).hasValue(4);
+    }
+
+    @Test
+    void shouldFailWithErrorsOfPendingConditionsGroupedByNameAfterSharedTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var passing = new CountingCondition(2);
+        final var failing1 = new CountingCondition(100);
+        final var failing2 = new CountingCondition(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .condition("passing", passing)
+            .condition("failing-1", failing1)
+            .condition("failing-2", failing2)
+            .untilAllPassed());
+
+        // then
+        softly.assertThat(caughtException)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout (2 failures)")
+            .hasMessageContaining("[failing-1] ")
+            .hasMessageContaining("[failing-2] ")
+            .hasMessageNotContaining("[passing] ");
+        softly.assertThat(time.waitIntervals()).hasSize(5);
+        softly.assertThat(passing.checkCount).hasValue(3);
+        softly.assertThat(failing1.checkCount).hasValue(6);
+    }
+
+    @Test
+    void shouldUseConfiguredCheckIntervalAndWaitMutex(final SoftAssertions softly)
+    {
+        // given
+        final var checkInterval = Duration.ofMillis(2000L);
+        final var waitMutex = new Object();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .withCheckInterval(checkInterval)
+            .usingWaitMutex(waitMutex)
+            .condition("condition", new CountingCondition(1))
+            .untilAllPassed());
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).containsExactly(checkInterval);
+        softly.assertThat(time.waitMutexObjects()).containsExactly(waitMutex);
+    }
+
+    @Test
+    void shouldEvaluateConditionsInParallel(final SoftAssertions softly)
+    {
+        // given
+        final var executor = Executors.newCachedThreadPool();
+        final var evaluationsStarted = new CountDownLatch(3);
+        final Consumer<SoftAssertions> parallelCondition = async -> {
+            evaluationsStarted.countDown();
+            async.assertThat(awaitLatch(evaluationsStarted)).as("all conditions evaluated at the same time").isTrue();
+        };
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .inParallel(executor)
+            .condition("first", parallelCondition)
+            .condition("second", parallelCondition)
+            .condition("third", parallelCondition)
+            .untilAllPassed());
+        executor.shutdownNow();
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).isEmpty();
+    }
+
+    @Test
+    void shouldFailWithErrorsOfPendingConditionsEvaluatedInParallel(final SoftAssertions softly)
+    {
+        // given
+        final var executor = Executors.newCachedThreadPool();
+        final var passing = new CountingCondition(2);
+        final var failing1 = new CountingCondition(100);
+        final var failing2 = new CountingCondition(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .inParallel(executor)
+            .reusingSoftAssertions()
+            .condition("passing", passing)
+            .condition("failing-1", failing1)
+            .condition("failing-2", failing2)
+            .untilAllPassed());
+        executor.shutdownNow();
+
+        // then
+        softly.assertThat(caughtException)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout (2 failures)")
+            .hasMessageContaining("[failing-1] ")
+            .hasMessageContaining("[failing-2] ")
+            .hasMessageNotContaining("[passing] ");
+        softly.assertThat(time.waitIntervals()).hasSize(5);
+        softly.assertThat(passing.checkCount).hasValue(3);
+        softly.assertThat(failing1.checkCount).hasValue(6);
+        softly.assertThat(failing2.checkCount).hasValue(6);
+    }
+
+    @Test
+    void shouldRethrowExceptionOfConditionEvaluatedInParallel()
+    {
+        // given
+        final var executor = Executors.newCachedThreadPool();
+        final var exception = new IllegalStateException("connection refused");
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .inParallel(executor)
+            .condition("failing", async -> {
+                throw exception;
+            })
+            .condition("passing", new CountingCondition(0))
+            .untilAllPassed());
+        executor.shutdownNow();
+
+        // then
+        assertThat(caughtException).isSameAs(exception);
+    }
+
+    @Test
+    void shouldRethrowExceptionOfConditionEvaluatedByAwaitingThreadAfterParallelConditionsEnd(final SoftAssertions softly)
+    {
+        // given
+        final var executor = Executors.newCachedThreadPool();
+        final var exception = new IllegalStateException("connection refused");
+        final var parallelEnded = new CountDownLatch(1);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .inParallel(executor)
+            .condition("slow", async -> {
+                sleep(200L);
+                parallelEnded.countDown();
+            })
+            .condition("failing", async -> {
+                throw exception;
+            })
+            .untilAllPassed());
+        final var parallelEndedBeforeRethrow = parallelEnded.getCount() == 0L;
+        executor.shutdownNow();
+
+        // then
+        softly.assertThat(caughtException).isSameAs(exception);
+        softly.assertThat(parallelEndedBeforeRethrow).isTrue();
+    }
+
+    @Test
+    void shouldRejectDuplicatedConditionName()
+    {
+        // given
+        final var withCondition = tested.condition("condition", new CountingCondition(0));
+
+        // when
+        final var caughtException = catchThrowable(() -> withCondition.condition("condition", new CountingCondition(0)));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("condition name must be unique");
+    }
+
+    @Test
+    void shouldRejectAwaitingWithoutConditions()
+    {
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilAllPassed());
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("at least one condition must be configured");
+    }
+
+    private static boolean awaitLatch(final CountDownLatch latch)
+    {
+        try
+        {
+            return latch.await(1L, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(final long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class CountingCondition implements Consumer<SoftAssertions>
+    {
+        private final AtomicInteger failureCount;
+        private final AtomicInteger checkCount = new AtomicInteger();
+
+        private CountingCondition(final int failureCount)
+        {
+            this.failureCount = new AtomicInteger(failureCount);
+        }
+
+        @Override
+        public void accept(final SoftAssertions async)
+        {
+            checkCount.incrementAndGet();
+            async.assertThat(failureCount.getAndDecrement()).isLessThanOrEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.webfleet.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AsyncAssertAnyTest
+{
+    private static final AsyncAssertAwaitConfig CONFIG = AsyncAssertAwaitConfig
+        .withTimeout(Duration.ofSeconds(5))
+        .withCheckInterval(Duration.ofSeconds(1));
+
+    private MockTime time;
+    private AsyncAssertAny tested;
+
+    @BeforeEach
+    void setup()
+    {
+        time = MockTime.create();
+        tested = new AsyncAssertAnyImpl(new AsyncAssertImpl(time, CONFIG));
+    }
+
+    @Test
+    void shouldReturnFirstPassedConditionWithoutCheckingTheRest(final SoftAssertions softly)
+    {
+        // given
+        final var primary = new CountingCondition(0);
+        final var fallback = new CountingCondition(0);
+
+        // when
+        final var passedCondition = tested
+            .condition("primary", primary)
+            .condition("fallback", fallback)
+            .untilAnyPassed();
+
+        // then
+        softly.assertThat(passedCondition).isEqualTo("primary");
+        softly.assertThat(time.waitIntervals()).isEmpty();
+        softly.assertThat(primary.checkCount).hasValue(1);
+        softly.assertThat(fallback.checkCount).hasValue(0);
+    }
+
+    @Test
+    void shouldKeepCheckingAllConditionsUntilAnyIsPassed(final SoftAssertions softly)
+    {
+        // given
+        final var primary = new CountingCondition(100);
+        final var fallback = new CountingCondition(2);
+
+        // when
+        final var passedCondition = tested
+            .condition("primary", primary)
+            .condition("fallback", fallback)
+            .untilAnyPassed();
+
+        // then
+        softly.assertThat(passedCondition).isEqualTo("fallback");
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval());
+        softly.assertThat(primary.checkCount).hasValue(3);
+        softly.assertThat(fallback.checkCount).hasValue(3);
+    }
+
+    @Test
+    void shouldFailWithLastErrorsOfAllConditionsAfterTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var primary = new CountingCondition(100);
+        final var fallback = new CountingCondition(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested
+            .condition("primary", primary)
+            .condition("fallback", fallback)
+            .untilAnyPassed());
+
+        // then
+        softly.assertThat(caughtException)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout (2 failures)")
+            .hasMessageContaining("[primary] ")
+            .hasMessageContaining("[fallback] ");
+        softly.assertThat(time.waitIntervals()).hasSize(5);
+        softly.assertThat(primary.checkCount).hasValue(6);
+        softly.assertThat(fallback.checkCount).hasValue(6);
+    }
+
+    @Test
+    void shouldRejectDuplicatedConditionName()
+    {
+        // given
+        final var withCondition = tested.condition("condition", new CountingCondition(0));
+
+        // when
+        final var caughtException = catchThrowable(() -> withCondition.condition("condition", new CountingCondition(0)));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("condition name must be unique");
+    }
+
+    @Test
+    void shouldRejectAwaitingWithoutConditions()
+    {
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilAnyPassed());
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("at least one condition must be configured");
+    }
+
+    private static final class CountingCondition implements Consumer<SoftAssertions>
+    {
+        private final AtomicInteger failureCount;
+        private final AtomicInteger checkCount = new AtomicInteger();
+
+        private CountingCondition(final int failureCount)
+        {
+            this.failureCount = new AtomicInteger(failureCount);
+        }
+
+        @Override
+        public void accept(final SoftAssertions async)
+        {
+            checkCount.incrementAndGet();
+            async.assertThat(failureCount.getAndDecrement()).isLessThanOrEqualTo(0);
+        }
+    }
+}
@@ -112,6 +112,8 @@ class AsyncAssertAwaitConfigTest
                 "PT5S      | PT1S                      | PT4.500S     | PT0.500S",
                 "PT5S      | PT1S                      | PT4.900S     | PT0.100S",
                 "PT5S      | PT1S                      | PT4.999S     | PT0.001S",
+                "PT5S      | PT1S                      | PT4.9999S    | PT0.0001S",
+                "PT0.001S  | PT0.0002S                 | PT0.0009S    | PT0.0001S",
                 "PT5S      | PT1S                      | PT5S         | PT0S",
                 "PT5S      | PT1S                      | PT6S         | PT0S",
         },
@@ -124,7 +126,7 @@ class AsyncAssertAwaitConfigTest
         // given
         final var config = AsyncAssertAwaitConfig.withTimeout(timeout)
             .withCheckInterval(configuredCheckInterval);
-        final ElapsedTime elapsedTime = () -> elapsedTimeDuration;
+        final ElapsedTime elapsedTime = elapsedTimeDuration::toNanos;
 
         // when
         final var checkInterval = config.checkInterval(elapsedTime);
@@ -133,6 +135,37 @@ class AsyncAssertAwaitConfigTest
         assertThat(checkInterval).isEqualTo(expectedCheckInterval);
     }
 
+    @Test
+    void shouldShortenBackoffCheckIntervalsWhenAddedToElapsedTimeExceedsTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var config = AsyncAssertAwaitConfig.withTimeout(Duration.ofSeconds(5))
+            .withBackoff(BackoffStrategy.fibonacci(Duration.ofSeconds(1)));
+        final var checkIntervals = config.checkIntervals();
+
+        // when then
+        softly.assertThat(checkIntervals.next(Duration.ZERO::toNanos)).isEqualTo(Duration.ofSeconds(1));
+        softly.assertThat(checkIntervals.next(Duration.ofSeconds(1)::toNanos)).isEqualTo(Duration.ofSeconds(1));
+        softly.assertThat(checkIntervals.next(Duration.ofSeconds(2)::toNanos)).isEqualTo(Duration.ofSeconds(2));
+        softly.assertThat(checkIntervals.next(Duration.ofSeconds(4)::toNanos)).isEqualTo(Duration.ofSeconds(1));
+        softly.assertThat(checkIntervals.next(Duration.ofSeconds(5)::toNanos)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldResetBackoffWhenCheckIntervalIsChanged()
+    {
+        // given
+        final var config = AsyncAssertAwaitConfig.withTimeout(Duration.ofSeconds(5))
+            .withBackoff(BackoffStrategy.exponential(Duration.ofMillis(100L)))
+            .withCheckInterval(Duration.ofSeconds(1));
+
+        // when
+        final var backoff = config.backoff();
+
+        // then
+        assertThat(backoff).isEqualTo(BackoffStrategy.fixed(Duration.ofSeconds(1)));
+    }
+
     @Test
     void shouldThrowExceptionWhenChangedCheckIntervalIsGreaterThanTimeout()
     {
@@ -179,4 +212,20 @@ class AsyncAssertAwaitConfigTest
             .isInstanceOf(NullPointerException.class)
             .hasMessage("checkInterval is marked non-null but is null");
     }
+
+    @ParameterizedTest
+    @CsvSource({"-PT0.001S", "PT0S"})
+    void shouldThrowExceptionWhenCheckTimeoutIsNegativeOrZero(final Duration checkTimeout)
+    {
+        // given
+        final var tested = AsyncAssertAwaitConfig.withTimeout(Duration.ofSeconds(1L));
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.withCheckTimeout(checkTimeout));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("checkTimeout must be greater than zero");
+    }
 }
@@ -1,9 +1,18 @@
 package com.webfleet.assertj;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.SoftAssertions;
@@ -146,4 +155,570 @@ class AsyncAssertTest
             checkInterval,
             Duration.ofMillis(1L));
     }
+
+    @Test
+    void shouldKeepCheckingAssertionsWithBackoffIntervalsShortenedToTimeout(final SoftAssertions softly)
+    {
+        // given
+        tested = tested.withBackoff(BackoffStrategy.exponential(Duration.ofMillis(500L)));
+        givenAssertionFailCount(10);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilAssertions(assertionConfigurer));
+
+        // then
+        softly.assertThat(caughtException).isInstanceOf(AssertionError.class);
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            Duration.ofMillis(500L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(2000L),
+            Duration.ofMillis(1500L)); // the last wait is shortened to not exceed timeout
+    }
+
+    @Test
+    void shouldFailWhenBackoffStrategyReturnsNotPositiveInterval()
+    {
+        // given
+        tested = tested.withBackoff((failedChecks, previousInterval) -> Duration.ZERO);
+        givenAssertionFailCount(1);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilAssertions(assertionConfigurer));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("backoff strategy must return interval greater than zero");
+    }
+
+    @Test
+    void shouldCompleteFutureWhenAssertionsArePositiveForTheFirstTime(final SoftAssertions softly)
+    {
+        // when
+        final var future = tested.untilAssertionsAsync(assertionConfigurer);
+
+        // then
+        softly.assertThat(future).isCompleted();
+        softly.assertThat(time.waitIntervals()).containsExactly(Duration.ZERO);
+    }
+
+    @Test
+    void shouldKeepSchedulingAsyncChecksWithCheckIntervalDelayUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(5);
+
+        // when
+        final var future = tested.untilAssertionsAsync(assertionConfigurer);
+
+        // then
+        softly.assertThat(future).isCompleted();
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            Duration.ZERO,
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval());
+    }
+
+    @Test
+    void shouldCompleteFutureExceptionallyAfterAsyncChecksTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var customCheckInterval = Duration.ofMillis(1777L);
+        tested = tested.withCheckInterval(customCheckInterval);
+        givenAssertionFailCount(4);
+
+        // when
+        final var future = tested.untilAssertionsAsync(assertionConfigurer);
+
+        // then
+        final var caughtException = catchThrowable(future::join);
+        softly.assertThat(caughtException).isInstanceOf(CompletionException.class);
+        softly.assertThat(caughtException.getCause())
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout");
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            Duration.ZERO,
+            customCheckInterval,
+            customCheckInterval,
+            Duration.ofMillis(1446L)); // the last wait is shortened to not exceed timeout, the next check failure completes the future
+    }
+
+    @Test
+    void shouldPropagateExceptionThrownByAssertionConfigurer(final SoftAssertions softly)
+    {
+        // given
+        final var exception = new IllegalStateException("test");
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilAssertions(async -> {
+            throw exception;
+        }));
+
+        // then
+        softly.assertThat(caughtException).isSameAs(exception);
+        softly.assertThat(time.waitIntervals()).isEmpty();
+    }
+
+    @Test
+    void shouldCompleteFutureExceptionallyWhenAssertionConfigurerThrowsException()
+    {
+        // given
+        final var exception = new IllegalStateException("test");
+
+        // when
+        final var future = tested.untilAssertionsAsync(async -> {
+            throw exception;
+        });
+
+        // then
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldWaitForPublishedElementUntilTimeoutWithoutIntervalChecks(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(100);
+
+        try (var publisher = new SubmissionPublisher<>())
+        {
+            // when
+            final var caughtException = catchThrowable(() -> tested.onEach(publisher).untilAssertions(assertionConfigurer));
+
+            // then
+            softly.assertThat(caughtException)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout");
+            softly.assertThat(time.waitIntervals()).containsExactly(CONFIG.timeout());
+        }
+    }
+
+    @Test
+    void shouldRejectPublisherInAsyncMode()
+    {
+        try (var publisher = new SubmissionPublisher<>())
+        {
+            // when
+            final var caughtException = catchThrowable(() -> tested.onEach(publisher).untilAssertionsAsync(assertionConfigurer));
+
+            // then
+            assertThat(caughtException)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("publisher driven checks are not supported by asynchronous await");
+        }
+    }
+
+    @Test
+    void shouldReuseSoftAssertionsInstanceAcrossChecks(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(3);
+        final Set<SoftAssertions> usedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.reusingSoftAssertions().untilAssertions(async -> {
+            usedInstances.add(async);
+            assertionConfigurer.accept(async);
+        }));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(usedInstances).hasSize(1);
+    }
+
+    @Test
+    void shouldReportOnlyErrorsOfLastCheckWhenReusingSoftAssertions()
+    {
+        // given
+        givenAssertionFailCount(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.reusingSoftAssertions().untilAssertions(assertionConfigurer));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout (1 failure)");
+    }
+
+    @Test
+    void shouldNotifyListenerAboutChecksAndWaitsUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        final var listener = new RecordingListener();
+        givenAssertionFailCount(2);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.withListener(listener).untilAssertions(assertionConfigurer));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(listener.events).containsExactly(
+            "start PT5S PT1S",
+            "check 1 PT0S false",
+            "wait PT1S PT1S",
+            "check 2 PT0S false",
+            "wait PT1S PT1S",
+            "check 3 PT0S true",
+            "success 3 PT2S");
+    }
+
+    @Test
+    void shouldNotifyListenerAboutTimeoutWithThrownError(final SoftAssertions softly)
+    {
+        // given
+        final var listener = new RecordingListener();
+        givenAssertionFailCount(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.withListener(listener).untilAssertions(assertionConfigurer));
+
+        // then
+        softly.assertThat(listener.events).hasSize(13).last().isEqualTo("timeout 6 PT5S");
+        softly.assertThat(listener.error).isNotNull().isSameAs(caughtException);
+    }
+
+    @Test
+    void shouldNotifyListenerAboutFailureWithThrownException(final SoftAssertions softly)
+    {
+        // given
+        final var listener = new RecordingListener();
+        final var exception = new IllegalStateException("test");
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.withListener(listener).untilAssertions(async -> {
+            throw exception;
+        }));
+
+        // then
+        softly.assertThat(caughtException).isSameAs(exception);
+        softly.assertThat(listener.events).containsExactly(
+            "start PT5S PT1S",
+            "failure 0 PT0S IllegalStateException");
+    }
+
+    @Test
+    void shouldNotifyListenerAboutAsyncChecksAndWaits(final SoftAssertions softly)
+    {
+        // given
+        final var listener = new RecordingListener();
+        givenAssertionFailCount(1);
+
+        // when
+        final var future = tested.withListener(listener).untilAssertionsAsync(assertionConfigurer);
+
+        // then
+        softly.assertThat(future).isCompleted();
+        softly.assertThat(listener.events).containsExactly(
+            "start PT5S PT1S",
+            "check 1 PT0S false",
+            "wait PT1S PT1S",
+            "check 2 PT0S true",
+            "success 2 PT1S");
+    }
+
+    @Test
+    void shouldReportTestMethodAsListenerCallSite()
+    {
+        // given
+        final var listener = new RecordingListener();
+
+        // when
+        tested.withListener(listener).untilAssertions(assertionConfigurer);
+
+        // then
+        assertThat(listener.context.callSite()).hasValueSatisfying(callSite -> {
+            assertThat(callSite.getClassName()).isEqualTo(AsyncAssertTest.class.getName());
+            assertThat(callSite.getMethodName()).isEqualTo("shouldReportTestMethodAsListenerCallSite");
+        });
+    }
+
+    @Test
+    void shouldIgnoreExceptionThrownByListener(final SoftAssertions softly)
+    {
+        // given
+        final var listener = new RecordingListener();
+        final var failingListener = new AsyncAssertListener()
+        {
+            @Override
+            public void onCheck(final AsyncAssertContext context, final int checkNumber, final Duration evaluationTime, final boolean passed)
+            {
+                throw new IllegalStateException("test");
+            }
+        };
+        givenAssertionFailCount(1);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.withListener(failingListener).withListener(listener)
+            .untilAssertions(assertionConfigurer));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(listener.events).contains("check 1 PT0S false", "check 2 PT0S true");
+    }
+
+    @Test
+    void shouldAwaitConditionUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(2);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.until(() -> assertionFailureCount.getAndDecrement() <= 0));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).containsExactly(CONFIG.checkInterval(), CONFIG.checkInterval());
+    }
+
+    @Test
+    void shouldDescribeUnsatisfiedConditionAfterTimeout()
+    {
+        // when
+        final var caughtException = catchThrowable(() -> tested.until(() -> false));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout")
+            .hasMessageContaining("Expecting value to be true but was false");
+    }
+
+    @Test
+    void shouldAwaitValueMatchingPredicateUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(3);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.until(assertionFailureCount::getAndDecrement, value -> value <= 0));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).hasSize(3);
+    }
+
+    @Test
+    void shouldDescribeLastValueNotMatchingPredicateAfterTimeout()
+    {
+        // given
+        givenAssertionFailCount(100);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.until(assertionFailureCount::getAndDecrement, value -> value <= 0));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout")
+            .hasMessageContaining("95")
+            .hasMessageContaining("to match given predicate");
+    }
+
+    @Test
+    void shouldAwaitLongValueUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        final var processedCount = new AtomicLong();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilLong(processedCount::incrementAndGet, count -> count >= 3L));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).hasSize(2);
+    }
+
+    @Test
+    void shouldReportLastAndHighestLongValueAfterTimeout()
+    {
+        // given
+        final var values = new long[] {1L, 7L, 5L, 3L, 2L, 4L};
+        final var checkCount = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilLong(() -> values[checkCount.getAndIncrement()], value -> value >= 10L));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout")
+            .hasMessageContaining("highest observed value: 7")
+            .hasMessageContaining("4L")
+            .hasMessageContaining("to match given predicate");
+    }
+
+    @Test
+    void shouldAwaitIntValueUntilSuccess(final SoftAssertions softly)
+    {
+        // given
+        givenAssertionFailCount(2);
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilInt(assertionFailureCount::getAndDecrement, size -> size == 0));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).hasSize(2);
+    }
+
+    @Test
+    void shouldReportLastAndHighestDoubleValueAfterTimeout()
+    {
+        // given
+        final var values = new double[] {0.1, 0.5, 0.4, 0.3, 0.2, 0.25};
+        final var checkCount = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilDouble(() -> values[checkCount.getAndIncrement()], value -> value >= 1.0));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("highest observed value: 0.5")
+            .hasMessageContaining("0.25");
+    }
+
+    @Test
+    void shouldSkipPassedLatchedAssertionsUntilConfirmation(final SoftAssertions softly)
+    {
+        // given
+        final var firstGroupChecks = new AtomicInteger();
+        final var secondGroupChecks = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilLatchedAssertions(latched -> {
+            latched.check(async -> async.assertThat(firstGroupChecks.incrementAndGet()).isPositive());
+            latched.check(async -> async.assertThat(secondGroupChecks.incrementAndGet()).isGreaterThanOrEqualTo(3));
+        }));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(firstGroupChecks).as("first check and confirmation").hasValue(2);
+        softly.assertThat(secondGroupChecks).as("three checks and confirmation").hasValue(4);
+        softly.assertThat(time.waitIntervals()).hasSize(2);
+    }
+
+    @Test
+    void shouldKeepCheckingLatchedAssertionsFailingInConfirmation()
+    {
+        // given
+        final var firstGroupChecks = new AtomicInteger();
+        final var secondGroupChecks = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.untilLatchedAssertions(latched -> {
+            latched.check(async -> async.assertThat(firstGroupChecks.incrementAndGet()).as("first group").isEqualTo(1));
+            latched.check(async -> async.assertThat(secondGroupChecks.incrementAndGet()).as("second group").isGreaterThanOrEqualTo(2));
+        }));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 5000ms timeout")
+            .hasMessageContaining("first group")
+            .hasMessageNotContaining("second group");
+    }
+
+    @Test
+    void shouldKeepCheckingAssertionsHoldingUntilEndOfStabilityPeriod(final SoftAssertions softly)
+    {
+        // given
+        final var checkCount = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.during(async -> async
+            .assertThat(checkCount.incrementAndGet()).isPositive()));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitIntervals()).containsExactly(
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval(),
+            CONFIG.checkInterval());
+        softly.assertThat(checkCount).hasValue(6);
+    }
+
+    @Test
+    void shouldFailImmediatelyOnFirstViolationOfStabilityAssertions(final SoftAssertions softly)
+    {
+        // given
+        final var checkCount = new AtomicInteger();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.during(async -> async
+            .assertThat(checkCount.incrementAndGet()).isLessThan(3)));
+
+        // then
+        softly.assertThat(caughtException)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after 2000ms of 5000ms stability period (1 failure)")
+            .hasMessageContaining("Expecting actual:");
+        softly.assertThat(time.waitIntervals()).hasSize(2);
+        softly.assertThat(checkCount).hasValue(3);
+    }
+
+    @Test
+    void shouldUseSignalForStabilityAssertionChecks(final SoftAssertions softly)
+    {
+        // given
+        final var signal = new AsyncSignal();
+
+        // when
+        final var caughtException = catchThrowable(() -> tested.usingSignal(signal).during(assertionConfigurer));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(time.waitMutexObjects()).containsExactly(signal);
+    }
+
+    private static final class RecordingListener implements AsyncAssertListener
+    {
+        private final List<String> events = new ArrayList<>();
+        private AsyncAssertContext context;
+        private AssertionError error;
+
+        @Override
+        public void onStart(final AsyncAssertContext context)
+        {
+            this.context = context;
+            events.add("start " + context.timeout() + " " + context.checkInterval());
+        }
+
+        @Override
+        public void onCheck(final AsyncAssertContext context, final int checkNumber, final Duration evaluationTime, final boolean passed)
+        {
+            events.add("check " + checkNumber + " " + evaluationTime + " " + passed);
+        }
+
+        @Override
+        public void onWait(final AsyncAssertContext context, final Duration checkInterval, final Duration waitTime)
+        {
+            events.add("wait " + checkInterval + " " + waitTime);
+        }
+
+        @Override
+        public void onSuccess(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime)
+        {
+            events.add("success " + checkCount + " " + elapsedTime);
+        }
+
+        @Override
+        public void onTimeout(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final AssertionError error)
+        {
+            this.error = error;
+            events.add("timeout " + checkCount + " " + elapsedTime);
+        }
+
+        @Override
+        public void onFailure(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime, final Throwable exception)
+        {
+            events.add("failure " + checkCount + " " + elapsedTime + " " + exception.getClass().getSimpleName());
+        }
+    }
 }
@@ -2,8 +2,11 @@ package com.webfleet.assertj;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.opentest4j.MultipleFailuresError;
@@ -49,4 +52,59 @@ class AsyncAssertionErrorCreatorTest
             .hasMessageContaining("-- failure 2 --error-2")
             .hasMessageContaining("-- failure 3 --error-3");
     }
+
+    @Test
+    void shouldCreateAsyncAssertionErrorWithFailuresOfGroupedErrorsLabeledWithName()
+    {
+        // given
+        final var multiErrors = new MultipleFailuresError("we have some errors here", List.of(
+            new AssertionError("error-1"),
+            new AssertionError("error-2")));
+        final var groupedError = new GroupedAssertionError(Map.of(
+            "first", multiErrors));
+
+        // when
+        final var asyncAssertionError = AsyncAssertionErrorCreator.create(CONFIG, groupedError);
+
+        // then
+        assertThat(asyncAssertionError)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 1500ms timeout (2 failures)")
+            .hasMessageContaining("-- failure 1 --[first] error-1")
+            .hasMessageContaining("-- failure 2 --[first] error-2");
+    }
+
+    @Test
+    void shouldCreateAsyncAssertionErrorWithCustomHeading()
+    {
+        // when
+        final var asyncAssertionError = AsyncAssertionErrorCreator.create("Custom heading", new AssertionError("test"));
+
+        // then
+        assertThat(asyncAssertionError)
+            .isInstanceOf(AsyncAssertionError.class)
+            .hasMessageContaining("Custom heading (1 failure)")
+            .hasMessageContaining("-- failure 1 --test");
+    }
+
+    @Test
+    void shouldRegisterAsyncAssertionErrorFactoryInNativeImageMetadata() throws IOException, NoSuchMethodException
+    {
+        // given
+        final var factory = AsyncAssertionError.class.getDeclaredMethod("create", String.class, AssertionError.class);
+
+        // when
+        final String reflectConfig;
+        try (var resource = getClass().getResourceAsStream("/META-INF/native-image/com.webfleet/assertj-async/reflect-config.json"))
+        {
+            assertThat(resource).isNotNull();
+            reflectConfig = new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertThat(reflectConfig)
+            .contains("\"name\": \"" + AsyncAssertionError.class.getName() + "\"")
+            .contains("\"name\": \"" + factory.getName() + "\"")
+            .contains("\"java.lang.String\"", "\"java.lang.AssertionError\"");
+    }
 }
@@ -6,18 +6,26 @@ import static com.webfleet.assertj.AsyncAssertions.awaitAtMostFiveSeconds;
 import static com.webfleet.assertj.AsyncAssertions.awaitAtMostOneSecond;
 import static com.webfleet.assertj.AsyncAssertions.awaitAtMostThirtySeconds;
 import static com.webfleet.assertj.AsyncAssertions.awaitAtMostTwoSeconds;
+import static com.webfleet.assertj.AsyncAssertions.holdsFor;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -115,6 +123,113 @@ class AsyncAssertionsTest
         softly.assertThat(caughtError).isNull();
     }
 
+    @Test
+    void shouldCheckAssertionImmediatelyAfterSignal(final ScheduledExecutorService executor, final SoftAssertions softly)
+        throws Exception
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        final var signal = new AsyncSignal();
+        final var asyncAssert = awaitAtMostFiveSeconds()
+            .withCheckInterval(4, SECONDS)
+            .usingSignal(signal);
+        final var caughtErrorFuture = executor.submit(() -> catchAsyncAssertError(asyncAssert, async -> async
+            .assertThat(condition).isTrue()));
+        awaitForFirstAssertionCheck(); // make sure the assertion checks begun
+
+        // when
+        condition.set(true);
+        signal.signal();
+
+        // then
+        final var caughtError = caughtErrorFuture.get(100L, MILLISECONDS);
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
+    @Test
+    void shouldCheckAssertionOnlyOnPublishedElement(final ScheduledExecutorService executor, final SoftAssertions softly)
+        throws Exception
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        try (var publisher = new SubmissionPublisher<Boolean>())
+        {
+            final var asyncAssert = awaitAtMostFiveSeconds().onEach(publisher);
+            final var caughtErrorFuture = executor.submit(() -> catchAsyncAssertError(asyncAssert, async -> async
+                .assertThat(condition).isTrue()));
+            awaitForFirstAssertionCheck(); // make sure the assertion checks begun
+            Thread.sleep(200L);
+            softly.assertThat(checkCount).hasValue(1);
+
+            // when
+            condition.set(true);
+            publisher.submit(true);
+
+            // then
+            final var caughtError = caughtErrorFuture.get(100L, MILLISECONDS);
+            softly.assertThat(caughtError).isNull();
+            softly.assertThat(checkCount).hasValue(2);
+        }
+    }
+
+    @Test
+    void shouldFailImmediatelyWhenPublisherCompletesWithFailedAssertion(final ScheduledExecutorService executor,
+                                                                        final SoftAssertions softly)
+        throws Exception
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        final var publisher = new SubmissionPublisher<Boolean>();
+        final var asyncAssert = awaitAtMostFiveSeconds().onEach(publisher);
+        final var caughtErrorFuture = executor.submit(() -> catchAsyncAssertError(asyncAssert, async -> async
+            .assertThat(condition).isTrue()));
+        awaitForFirstAssertionCheck(); // make sure the assertion checks begun
+
+        // when
+        publisher.close();
+
+        // then
+        final var caughtError = caughtErrorFuture.get(100L, MILLISECONDS);
+        softly.assertThat(caughtError).isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after publisher completion")
+            .hasMessageContaining("Expecting value to be true but was false");
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
+    @Test
+    void shouldCheckAgainWhenPublisherCompletesDuringCheck(final ScheduledExecutorService executor, final SoftAssertions softly)
+        throws Exception
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        final var firstCheckStarted = new CountDownLatch(1);
+        final var firstCheckReleased = new CountDownLatch(1);
+        final var publisher = new SubmissionPublisher<Boolean>();
+        final var asyncAssert = awaitAtMostFiveSeconds().onEach(publisher);
+        final var caughtErrorFuture = executor.submit(() -> catchAsyncAssertError(asyncAssert, async -> {
+            final var value = condition.get();
+            if (checkCount.get() == 1)
+            {
+                firstCheckStarted.countDown();
+                awaitLatch(firstCheckReleased);
+            }
+            async.assertThat(value).isTrue();
+        }));
+        firstCheckStarted.await();
+
+        // when
+        condition.set(true);
+        publisher.close();
+        Thread.sleep(100L); // let the completion reach the await
+        firstCheckReleased.countDown();
+
+        // then
+        final var caughtError = caughtErrorFuture.get(100L, MILLISECONDS);
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
     @Test
     void shouldKeepCheckingAssertionUntilCustomTimeout(final SoftAssertions softly)
     {
@@ -181,6 +296,164 @@ class AsyncAssertionsTest
         softly.assertThat(checkCount).hasPositiveValue();
     }
 
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldInterruptCheckExceedingCheckTimeoutAndCheckAgain(final SoftAssertions softly)
+    {
+        // given
+        final var checkInterrupted = new AtomicBoolean(false);
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(500L, MILLISECONDS).withCheckTimeout(Duration.ofMillis(100L)), async -> {
+            if (checkCount.get() == 1)
+            {
+                checkInterrupted.set(!sleep(Duration.ofSeconds(10L)));
+            }
+            async.assertThat(checkInterrupted).isTrue();
+        });
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(checkInterrupted).isTrue();
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldFailWithCheckTimeoutWhenCheckIsBlockedUntilAwaitTimeout(final SoftAssertions softly)
+    {
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(300L, MILLISECONDS).withCheckTimeout(Duration.ofSeconds(10L)), async -> {
+            sleep(Duration.ofSeconds(10L));
+            async.assertThat(true).isTrue();
+        });
+
+        // then
+        softly.assertThat(caughtError).isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 300ms timeout (1 failure)")
+            .hasMessageContaining("Check did not complete within")
+            .hasMessageContaining("and was interrupted");
+        softly.assertThat(checkCount).hasValue(1);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldKeepCheckingStabilityAssertionsForTheWholePeriod(final SoftAssertions softly)
+    {
+        // given
+        final var startTime = System.nanoTime();
+
+        // when
+        final var caughtError = catchThrowable(() -> holdsFor(Duration.ofMillis(300L)).during(async -> {
+            checkCount.incrementAndGet();
+            async.assertThat(true).isTrue();
+        }));
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isGreaterThanOrEqualTo(Duration.ofMillis(300L));
+        softly.assertThat(checkCount.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldDetectStabilityViolationImmediatelyAfterSignal(final ScheduledExecutorService executor, final SoftAssertions softly)
+        throws Exception
+    {
+        // given
+        final var violated = new AtomicBoolean(false);
+        final var signal = new AsyncSignal();
+        final var asyncAssert = holdsFor(Duration.ofSeconds(5))
+            .withCheckInterval(4, SECONDS)
+            .usingSignal(signal);
+        final var caughtErrorFuture = executor.submit(() -> catchThrowable(() -> asyncAssert.during(async -> {
+            checkCount.incrementAndGet();
+            async.assertThat(violated).isFalse();
+        })));
+        awaitForFirstAssertionCheck(); // make sure the assertion checks begun
+
+        // when
+        violated.set(true);
+        signal.signal();
+
+        // then
+        final var caughtError = caughtErrorFuture.get(100L, MILLISECONDS);
+        softly.assertThat(caughtError).isInstanceOf(AssertionError.class)
+            .hasMessageContaining("of 5000ms stability period")
+            .hasMessageContaining("Expecting value to be false but was true");
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldNotStartNextCheckUntilTimedOutCheckIgnoringInterruptionEnds(final SoftAssertions softly)
+    {
+        // given
+        final var runningChecks = new AtomicInteger();
+        final var maxRunningChecks = new AtomicInteger();
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(500L, MILLISECONDS).withCheckTimeout(Duration.ofMillis(50L)), async -> {
+            maxRunningChecks.accumulateAndGet(runningChecks.incrementAndGet(), Math::max);
+            if (checkCount.get() == 1)
+            {
+                final var endTime = System.nanoTime() + MILLISECONDS.toNanos(200L);
+                while (System.nanoTime() < endTime)
+                {
+                    Thread.onSpinWait();
+                }
+            }
+            runningChecks.decrementAndGet();
+            async.assertThat(checkCount).hasValueGreaterThan(1);
+        });
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(maxRunningChecks).hasValue(1);
+        softly.assertThat(checkCount).hasValue(2);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldReportAssertionFailureOfTimedCheckEndingAtCustomClockTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var clock = new FakeClock();
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(Duration.ofMinutes(5))
+            .withCheckInterval(Duration.ofSeconds(10))
+            .withCheckTimeout(Duration.ofSeconds(1))
+            .usingClock(clock), async -> async.assertThat(false).isTrue());
+
+        // then
+        softly.assertThat(caughtError)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 300000ms timeout")
+            .hasMessageContaining("Expecting value to be true but was false")
+            .hasMessageNotContaining("Check did not complete");
+    }
+
+    @Test
+    @Timeout(value = 2, unit = SECONDS)
+    void shouldNotBlockOtherAsyncAssertionsByTimedCheck(final SoftAssertions softly)
+    {
+        // given
+        final var blockedCheck = awaitAtMost(1500L, MILLISECONDS)
+            .withCheckTimeout(Duration.ofSeconds(1))
+            .untilAssertionsAsync(async -> async.assertThat(sleep(Duration.ofSeconds(10L))).isTrue());
+        final var startTime = System.nanoTime();
+
+        // when
+        final var otherCheck = awaitAtMostOneSecond().untilAssertionsAsync(async -> async.assertThat(true).isTrue());
+
+        // then
+        softly.assertThat(otherCheck).succeedsWithin(Duration.ofMillis(500L));
+        softly.assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofMillis(500L));
+        softly.assertThat(catchThrowable(blockedCheck::join).getCause())
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Check did not complete within");
+    }
+
     @Test
     void shouldInterruptCheckIntervalWaitWhenWaitMutexObjectIsNotified(final ScheduledExecutorService executor, final SoftAssertions softly)
         throws Exception
@@ -207,6 +480,123 @@ class AsyncAssertionsTest
         softly.assertThat(checkCount).hasValue(2);
     }
 
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldCompleteAsyncAssertionWhenConditionIsChangedToExpectedResult(final SoftAssertions softly)
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        final var future = awaitAtMostFiveSeconds()
+            .withCheckInterval(20, MILLISECONDS)
+            .untilAssertionsAsync(async -> {
+                checkCount.incrementAndGet();
+                async.assertThat(condition).isTrue();
+            });
+        awaitForFirstAssertionCheck(); // make sure the assertion checks begun
+        softly.assertThat(future).isNotDone();
+
+        // when
+        condition.set(true);
+
+        // then
+        softly.assertThat(catchThrowable(future::join)).isNull();
+        softly.assertThat(future).isCompleted();
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldCompleteAsyncAssertionExceptionallyAfterTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+
+        // when
+        final var future = awaitAtMost(300L, MILLISECONDS).untilAssertionsAsync(async -> async.assertThat(condition.get()).isTrue());
+
+        // then
+        final var caughtException = catchThrowable(future::join);
+        softly.assertThat(caughtException).isInstanceOf(CompletionException.class);
+        softly.assertThat(caughtException.getCause())
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 300ms timeout (1 failure)")
+            .hasMessageContaining("Expecting value to be true but was false");
+    }
+
+    @Test
+    @Timeout(value = 2, unit = SECONDS)
+    void shouldNotCreateThreadPerPendingAsyncAssertion(final SoftAssertions softly)
+    {
+        // given
+        final var condition = new AtomicBoolean(false);
+        final var threadCountBefore = Thread.activeCount();
+
+        // when
+        final var futures = IntStream.range(0, 500)
+            .mapToObj(i -> awaitAtMostFiveSeconds().untilAssertionsAsync(async -> async.assertThat(condition).isTrue()))
+            .toArray(CompletableFuture[]::new);
+        final var threadCountWhilePending = Thread.activeCount();
+        condition.set(true);
+
+        // then
+        softly.assertThat(catchThrowable(() -> CompletableFuture.allOf(futures).join())).isNull();
+        softly.assertThat(threadCountWhilePending).isLessThanOrEqualTo(threadCountBefore + 1); // single shared scheduler thread
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldKeepCheckingAssertionWithSubMillisecondCheckInterval(final SoftAssertions softly)
+    {
+        // given
+        final var condition = new AtomicInteger(20);
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(500L, MILLISECONDS).withCheckInterval(100L, MICROSECONDS), async -> async
+            .assertThat(condition.decrementAndGet()).isZero());
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(checkCount).hasValue(20);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldKeepCheckingAssertionWithSpinThenParkWaitStrategy(final SoftAssertions softly)
+    {
+        // given
+        final var condition = new AtomicInteger(20);
+        final var waitStrategy = WaitStrategy.spinThenPark(Duration.ofNanos(20_000L), Duration.ofNanos(20_000L));
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(500L, MILLISECONDS)
+            .withCheckInterval(50L, MICROSECONDS)
+            .withWaitStrategy(waitStrategy), async -> async
+            .assertThat(condition.decrementAndGet()).isZero());
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(checkCount).hasValue(20);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = SECONDS)
+    void shouldWarmUpSoftAssertionsOnlyOnce(final SoftAssertions softly)
+    {
+        // when
+        final var warmUp = AsyncAssertions.warmUp();
+
+        // then
+        softly.assertThat(catchThrowable(warmUp::join)).isNull();
+        softly.assertThat(AsyncAssertions.warmUp()).isSameAs(warmUp);
+    }
+
+    @Test
+    void shouldConvertCheckIntervalTimeUnitWithoutPrecisionLoss()
+    {
+        assertThat(awaitAtMostOneSecond().withCheckInterval(250L, MICROSECONDS))
+            .extracting("config.checkInterval")
+            .isEqualTo(Duration.ofNanos(250_000L));
+    }
+
     @Test
     void shouldThrowExceptionWhenAwaitTimeoutIsSetToNull()
     {
@@ -267,7 +657,110 @@ class AsyncAssertionsTest
         softly.assertThat(awaitAtMostThirtySeconds()).extracting("config.timeout").isEqualTo(Duration.ofSeconds(30));
     }
 
-    private Throwable catchAsyncAssertError(final AsyncAssert asyncAssert,
+    @Test
+    void shouldNotifyGlobalListenerUntilRemoved(final SoftAssertions softly)
+    {
+        // given
+        final var successCount = new AtomicInteger();
+        final var listener = new AsyncAssertListener()
+        {
+            @Override
+            public void onSuccess(final AsyncAssertContext context, final int checkCount, final Duration elapsedTime)
+            {
+                successCount.incrementAndGet();
+            }
+        };
+        AsyncAssertions.addListener(listener);
+        try
+        {
+            // when
+            awaitAtMostOneSecond().untilAssertions(async -> async.assertThat(true).isTrue());
+        }
+        finally
+        {
+            AsyncAssertions.removeListener(listener);
+        }
+        awaitAtMostOneSecond().untilAssertions(async -> async.assertThat(true).isTrue());
+
+        // then
+        softly.assertThat(successCount).hasValue(1);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldAdvanceCustomClockInsteadOfWaiting(final SoftAssertions softly)
+    {
+        // given
+        final var clock = new FakeClock();
+        final var jobTime = Duration.ofMinutes(2);
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(Duration.ofMinutes(5))
+            .withCheckInterval(Duration.ofSeconds(10)).usingClock(clock), async -> async
+            .assertThat(clock.elapsed()).isGreaterThanOrEqualTo(jobTime));
+
+        // then
+        softly.assertThat(caughtError).isNull();
+        softly.assertThat(clock.elapsed()).isBetween(jobTime, jobTime.plusSeconds(10));
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldFailAfterCustomClockTimeout(final SoftAssertions softly)
+    {
+        // given
+        final var clock = new FakeClock();
+
+        // when
+        final var caughtError = catchAsyncAssertError(awaitAtMost(Duration.ofMinutes(5))
+            .withCheckInterval(Duration.ofSeconds(10)).usingClock(clock), async -> async
+            .assertThat(false).isTrue());
+
+        // then
+        softly.assertThat(caughtError)
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Async assertion failed after exceeding 300000ms timeout");
+        softly.assertThat(clock.elapsed()).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldScheduleAsyncChecksWithCustomClock()
+    {
+        // given
+        final var clock = new FakeClock();
+        final var jobTime = Duration.ofMinutes(2);
+
+        // when
+        final var future = awaitAtMost(Duration.ofMinutes(5))
+            .withCheckInterval(Duration.ofSeconds(10))
+            .usingClock(clock)
+            .untilAssertionsAsync(async -> async.assertThat(clock.elapsed()).isGreaterThanOrEqualTo(jobTime));
+
+        // then
+        assertThat(future).succeedsWithin(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRejectNotificationsCombinedWithCustomClock(final SoftAssertions softly)
+    {
+        // given
+        final var clock = new FakeClock();
+
+        // when
+        final var signalAfterClock = catchThrowable(() -> awaitAtMostOneSecond().usingClock(clock).usingSignal(new AsyncSignal()));
+        final var mutexBeforeClock = catchThrowable(() -> awaitAtMostOneSecond().usingWaitMutex(new Object()).usingClock(clock));
+        final var publisherBeforeClock = catchThrowable(() -> awaitAtMostOneSecond().onEach(new SubmissionPublisher<>()).usingClock(clock));
+
+        // then
+        softly.assertThat(signalAfterClock)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("wait mutex, signal and publisher are not supported with custom clock");
+        softly.assertThat(mutexBeforeClock).isInstanceOf(IllegalStateException.class);
+        softly.assertThat(publisherBeforeClock).isInstanceOf(IllegalStateException.class);
+    }
+
+        private Throwable catchAsyncAssertError(final AsyncAssert asyncAssert,
                                             final Consumer<SoftAssertions> assertionConfigurer)
     {
         return catchThrowable(() -> asyncAssert.untilAssertions(async -> {
@@ -276,8 +769,60 @@ class AsyncAssertionsTest
         }));
     }
 
+    private static boolean sleep(final Duration duration)
+    {
+        try
+        {
+            Thread.sleep(duration.toMillis());
+            return true;
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean awaitLatch(final CountDownLatch latch)
+    {
+        try
+        {
+            return latch.await(1L, SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private void awaitForFirstAssertionCheck()
     {
         awaitAtMostOneSecond().untilAssertions(async -> async.assertThat(checkCount).hasPositiveValue());
     }
+
+    /**
+     * Clock advanced by the waits of the assertions.
+     */
+    private static final class FakeClock implements AsyncClock
+    {
+        private final AtomicLong nanoTime = new AtomicLong();
+
+        @Override
+        public long nanoTime()
+        {
+            return nanoTime.get();
+        }
+
+        @Override
+        public void waitFor(final Duration interval)
+        {
+            nanoTime.addAndGet(interval.toNanos());
+        }
+
+        Duration elapsed()
+        {
+            return Duration.ofNanos(nanoTime.get());
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AsyncAssertionsWarmUpExtensionTest
+{
+    @Test
+    void shouldStartWarmUpBeforeAllTestsOfClass(final SoftAssertions softly)
+    {
+        // given
+        final var warmUpCount = new AtomicInteger();
+        final var tested = new AsyncAssertionsWarmUpExtension(() -> {
+            warmUpCount.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        // when
+        tested.beforeAll(mock(ExtensionContext.class));
+
+        // then
+        softly.assertThat(warmUpCount).hasValue(1);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = SECONDS)
+    void shouldStartSharedWarmUpByDefault(final SoftAssertions softly)
+    {
+        // when
+        new AsyncAssertionsWarmUpExtension().beforeAll(mock(ExtensionContext.class));
+
+        // then
+        softly.assertThat(SoftAssertionsWarmUp.isStarted()).isTrue();
+        softly.assertThat(SoftAssertionsWarmUp.start().join()).isNull();
+    }
+}
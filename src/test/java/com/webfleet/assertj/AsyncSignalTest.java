@@ -0,0 +1,189 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.webfleet.assertj.util.EnableScheduledExecutor;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+@EnableScheduledExecutor
+class AsyncSignalTest
+{
+    private final AsyncSignal tested = new AsyncSignal();
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldEndTheWaitOnSignal(final ExecutorService executor) throws Exception
+    {
+        // given
+        final var waitStarted = new CompletableFuture<Void>();
+        final var waitTime = executor.submit(() -> measureWait(waitStarted, Duration.ofSeconds(5)));
+        waitStarted.join();
+        Thread.sleep(50L);
+
+        // when
+        tested.signal();
+
+        // then
+        assertThat(waitTime.get()).isBetween(Duration.ofMillis(50L), Duration.ofMillis(500L));
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldNotWaitWhenSignalWasSentAfterWaitConditionCreation()
+    {
+        // given
+        final var waitCondition = tested.waitCondition();
+        tested.signal();
+        final var startTime = System.nanoTime();
+
+        // when
+        waitCondition.waitFor(Duration.ofSeconds(5));
+
+        // then
+        assertThat(MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS)).isLessThan(100L);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldConsumeSignalOnlyOnce()
+    {
+        // given
+        final var waitCondition = tested.waitCondition();
+        tested.signal();
+        waitCondition.waitFor(Duration.ofSeconds(5));
+        final var startTime = System.nanoTime();
+
+        // when
+        waitCondition.waitFor(Duration.ofMillis(50L));
+
+        // then
+        assertThat(MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS)).isGreaterThanOrEqualTo(50L);
+    }
+
+    @Test
+    void shouldReportSignalWithoutBlockingOnlyOnce(final SoftAssertions softly)
+    {
+        // given
+        final var waitCondition = tested.waitCondition();
+        softly.assertThat(waitCondition.isSignalled()).isFalse();
+
+        // when
+        tested.signal();
+
+        // then
+        softly.assertThat(waitCondition.isSignalled()).isTrue();
+        softly.assertThat(waitCondition.isSignalled()).isFalse();
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldWaitForTheWholeIntervalWithoutSignal()
+    {
+        // given
+        final var waitCondition = tested.waitCondition();
+        final var startTime = System.nanoTime();
+
+        // when
+        waitCondition.waitFor(Duration.ofMillis(50L));
+
+        // then
+        assertThat(MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS)).isBetween(50L, 500L);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldEndTheWaitOfAllWaitingThreads(final SoftAssertions softly) throws Exception
+    {
+        // given
+        final var executor = Executors.newFixedThreadPool(3);
+        try
+        {
+            final var waitStarted = new CompletableFuture<?>[3];
+            final var waitTimes = new Future<?>[3];
+            for (var i = 0; i < waitTimes.length; i++)
+            {
+                final var started = new CompletableFuture<Void>();
+                waitStarted[i] = started;
+                waitTimes[i] = executor.submit(() -> measureWait(started, Duration.ofSeconds(5)));
+            }
+            CompletableFuture.allOf(waitStarted).join();
+            Thread.sleep(50L);
+
+            // when
+            tested.signal();
+
+            // then
+            for (final var waitTime : waitTimes)
+            {
+                softly.assertThat((Duration) waitTime.get()).isLessThan(Duration.ofMillis(500L));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldNotBlockSignalWithoutWaitingThreads()
+    {
+        // when
+        for (var i = 0; i < 1_000; i++)
+        {
+            tested.signal();
+        }
+
+        // then
+        assertThat(tested.waitCondition()).isNotNull();
+    }
+
+    @Test
+    @Timeout(value = 2, unit = SECONDS)
+    void shouldDropStoppedWaitersBehindWaitingOne(final ExecutorService executor) throws Exception
+    {
+        // given
+        final var waitCondition = tested.waitCondition();
+        waitCondition.waitFor(Duration.ofMillis(1L));
+        final var waitStarted = new CompletableFuture<Void>();
+        final var longWait = executor.submit(() -> measureWait(waitStarted, Duration.ofSeconds(5)));
+        waitStarted.join();
+        Thread.sleep(50L);
+
+        // when
+        for (var i = 0; i < 100; i++)
+        {
+            waitCondition.waitFor(Duration.ofMillis(1L));
+        }
+
+        // then
+        assertThat(tested.waiterCount()).isLessThanOrEqualTo(2);
+        tested.signal();
+        longWait.get();
+    }
+
+    private Duration measureWait(final CompletableFuture<Void> waitStarted, final Duration waitInterval)
+    {
+        final var waitCondition = tested.waitCondition();
+        final var startTime = System.nanoTime();
+        waitStarted.complete(null);
+        waitCondition.waitFor(waitInterval);
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+}
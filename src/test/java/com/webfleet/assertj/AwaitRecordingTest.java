@@ -0,0 +1,123 @@
+package com.webfleet.assertj;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AwaitRecordingTest
+{
+    private static final AsyncAssertAwaitConfig CONFIG = AsyncAssertAwaitConfig
+        .withTimeout(Duration.ofSeconds(5))
+        .withCheckInterval(Duration.ofSeconds(1));
+
+    @TempDir
+    Path recordingDirectory;
+
+    private final AsyncAssert tested = new AsyncAssertImpl(MockTime.create(), CONFIG);
+
+    @Test
+    void shouldRecordAwaitCheckAndWaitEvents(final SoftAssertions softly) throws Exception
+    {
+        // given
+        final var failureCount = new AtomicInteger(2);
+
+        // when
+        final var events = record(() -> tested.untilAssertions(async -> async
+            .assertThat(failureCount.getAndDecrement()).isLessThanOrEqualTo(0)));
+
+        // then
+        softly.assertThat(events)
+            .extracting(event -> event.getString("callSite"))
+            .allSatisfy(callSite -> assertThat(callSite).contains(AwaitRecordingTest.class.getName()));
+        softly.assertThat(eventsOfType(events, "Check"))
+            .extracting(event -> event.getInt("checkNumber") + " " + event.getBoolean("passed"))
+            .containsExactlyInAnyOrder("1 false", "2 false", "3 true");
+        softly.assertThat(eventsOfType(events, "Wait"))
+            .extracting(event -> event.getDuration("checkInterval"))
+            .containsExactly(CONFIG.checkInterval(), CONFIG.checkInterval());
+        softly.assertThat(eventsOfType(events, "Await")).singleElement().satisfies(awaitEvent -> {
+            assertThat(awaitEvent.getDuration("timeout")).isEqualTo(CONFIG.timeout());
+            assertThat(awaitEvent.getDuration("checkInterval")).isEqualTo(CONFIG.checkInterval());
+            assertThat(awaitEvent.getInt("checkCount")).isEqualTo(3);
+            assertThat(awaitEvent.getBoolean("passed")).isTrue();
+        });
+    }
+
+    @Test
+    void shouldRecordFailedAwait(final SoftAssertions softly) throws Exception
+    {
+        // when
+        final var events = record(() -> catchThrowable(() -> tested.untilAssertions(async -> async.assertThat(false).isTrue())));
+
+        // then
+        softly.assertThat(eventsOfType(events, "Check")).hasSize(6);
+        softly.assertThat(eventsOfType(events, "Await")).singleElement().satisfies(awaitEvent -> {
+            assertThat(awaitEvent.getInt("checkCount")).isEqualTo(6);
+            assertThat(awaitEvent.getBoolean("passed")).isFalse();
+        });
+    }
+
+    @Test
+    void shouldNotRecordEventsByDefault() throws Exception
+    {
+        // when
+        final List<RecordedEvent> events;
+        try (var recording = new Recording())
+        {
+            recording.start();
+            tested.untilAssertions(async -> async.assertThat(true).isTrue());
+            recording.stop();
+            events = readAssertionEvents(recording);
+        }
+
+        // then
+        assertThat(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(final Runnable awaitedAssertions) throws Exception
+    {
+        try (var recording = new Recording())
+        {
+            recording.enable("com.webfleet.assertj.Await");
+            recording.enable("com.webfleet.assertj.Check");
+            recording.enable("com.webfleet.assertj.Wait");
+            recording.start();
+            awaitedAssertions.run();
+            recording.stop();
+            return readAssertionEvents(recording);
+        }
+    }
+
+    private List<RecordedEvent> readAssertionEvents(final Recording recording) throws Exception
+    {
+        final var recordingFile = recordingDirectory.resolve("recording.jfr");
+        recording.dump(recordingFile);
+        return RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().startsWith("com.webfleet.assertj."))
+            .collect(toList());
+    }
+
+    private static List<RecordedEvent> eventsOfType(final List<RecordedEvent> events, final String eventType)
+    {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.webfleet.assertj." + eventType))
+            .collect(toList());
+    }
+}
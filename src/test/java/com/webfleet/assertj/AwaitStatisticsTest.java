@@ -0,0 +1,203 @@
+package com.webfleet.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AwaitStatisticsTest
+{
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration CHECK_INTERVAL = Duration.ofMillis(100);
+    private static final StackTraceElement CALL_SITE = new StackTraceElement("com.example.ServiceTest", "shouldStart", "ServiceTest.java", 42);
+
+    private final AwaitStatistics tested = new AwaitStatistics();
+
+    @AfterEach
+    void finishTest()
+    {
+        tested.testFinished();
+    }
+
+    @Test
+    void shouldCollectAwaitsPerTestAndCallSite(final SoftAssertions softly)
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+
+        // when
+        awaitPassed(3, Duration.ofMillis(200), Duration.ofMillis(210));
+        awaitPassed(1, Duration.ZERO, Duration.ofMillis(1));
+
+        // then
+        softly.assertThat(tested.entries()).singleElement().satisfies(entry -> {
+            assertThat(entry.test()).isEqualTo("ServiceTest#shouldStart()");
+            assertThat(entry.callSite()).isEqualTo("com.example.ServiceTest.shouldStart(ServiceTest.java:42)");
+            assertThat(entry.awaits()).isEqualTo(2);
+            assertThat(entry.checks()).isEqualTo(4);
+            assertThat(entry.waitTimeMillis()).isEqualTo(200L);
+            assertThat(entry.successes()).isEqualTo(2);
+            assertThat(entry.firstCheckSuccesses()).isEqualTo(1);
+            assertThat(entry.maxTimeoutShare()).isEqualTo(0.042);
+            assertThat(entry.flags()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFlagAwaitsSucceedingNearTimeout()
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+
+        // when
+        awaitPassed(47, Duration.ofMillis(4600), Duration.ofMillis(4700));
+        awaitPassed(2, Duration.ofMillis(100), Duration.ofMillis(100));
+
+        // then
+        assertThat(tested.entries()).singleElement()
+            .satisfies(entry -> assertThat(entry.flags()).containsExactly("NEAR_TIMEOUT"));
+    }
+
+    @Test
+    void shouldFlagAwaitsAlwaysPassingOnFirstCheck()
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+
+        // when
+        awaitPassed(1, Duration.ZERO, Duration.ofMillis(1));
+        awaitPassed(1, Duration.ZERO, Duration.ofMillis(2));
+
+        // then
+        assertThat(tested.entries()).singleElement()
+            .satisfies(entry -> assertThat(entry.flags()).containsExactly("FIRST_CHECK"));
+    }
+
+    @Test
+    void shouldCountTimeouts(final SoftAssertions softly)
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+        final var context = new AsyncAssertContext(TIMEOUT, CHECK_INTERVAL, CALL_SITE, false);
+
+        // when
+        tested.onStart(context);
+        tested.onWait(context, TIMEOUT, TIMEOUT);
+        tested.onTimeout(context, 2, TIMEOUT, new AssertionError("test"));
+
+        // then
+        softly.assertThat(tested.entries()).singleElement().satisfies(entry -> {
+            assertThat(entry.timeouts()).isEqualTo(1);
+            assertThat(entry.successes()).isZero();
+            assertThat(entry.waitTimeMillis()).isEqualTo(5000L);
+            assertThat(entry.flags()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldCountAwaitsEndedWithException(final SoftAssertions softly)
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+        final var context = new AsyncAssertContext(TIMEOUT, CHECK_INTERVAL, CALL_SITE, false);
+
+        // when
+        tested.onStart(context);
+        tested.onFailure(context, 1, Duration.ofMillis(5), new IllegalStateException("test"));
+
+        // then
+        softly.assertThat(tested.entries()).singleElement().satisfies(entry -> {
+            assertThat(entry.failures()).isEqualTo(1);
+            assertThat(entry.awaits()).isEqualTo(1);
+            assertThat(entry.timeouts()).isZero();
+            assertThat(entry.successes()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReportAwaitsStartedOutsideOfTestThreadWithoutTest()
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+
+        // when
+        CompletableFuture.runAsync(() -> awaitPassed(1, Duration.ZERO, Duration.ZERO)).join();
+
+        // then
+        assertThat(tested.entries()).singleElement()
+            .satisfies(entry -> assertThat(entry.test()).isEqualTo(AwaitStatistics.NO_TEST));
+    }
+
+    @Test
+    void shouldWriteCsvReport() throws Exception
+    {
+        // given
+        tested.testStarted("ServiceTest#shouldStart()");
+        awaitPassed(1, Duration.ZERO, Duration.ofMillis(5));
+        final var writer = new StringWriter();
+
+        // when
+        tested.writeCsv(writer);
+
+        // then
+        assertThat(writer).hasToString(
+            "test,callSite,awaits,checks,waitTimeMillis,successes,timeouts,failures,firstCheckSuccesses,nearTimeoutSuccesses,"
+                + "averageTimeoutShare,maxTimeoutShare,flags\n"
+                + "ServiceTest#shouldStart(),com.example.ServiceTest.shouldStart(ServiceTest.java:42),1,1,0,1,0,0,1,0,0.001,0.001,FIRST_CHECK\n");
+    }
+
+    @Test
+    void shouldWriteJsonReport() throws Exception
+    {
+        // given
+        tested.testStarted("ServiceTest#\"quoted\"");
+        awaitPassed(1, Duration.ZERO, Duration.ofMillis(5));
+        final var writer = new StringWriter();
+
+        // when
+        tested.writeJson(writer);
+
+        // then
+        assertThat(writer).hasToString("[\n"
+            + "  {\"test\": \"ServiceTest#\\\"quoted\\\"\", \"callSite\": \"com.example.ServiceTest.shouldStart(ServiceTest.java:42)\", "
+            + "\"awaits\": 1, \"checks\": 1, \"waitTimeMillis\": 0, \"successes\": 1, \"timeouts\": 0, \"failures\": 0, \"firstCheckSuccesses\": 1, "
+            + "\"nearTimeoutSuccesses\": 0, \"averageTimeoutShare\": 0.001, \"maxTimeoutShare\": 0.001, \"flags\": [\"FIRST_CHECK\"]}\n"
+            + "]\n");
+    }
+
+    @Test
+    void shouldWriteReportFiles(@TempDir final Path reportDirectory, final SoftAssertions softly)
+    {
+        // given
+        awaitPassed(1, Duration.ZERO, Duration.ZERO);
+
+        // when
+        AsyncAssertReportListener.writeReport(tested, reportDirectory);
+
+        // then
+        softly.assertThat(reportDirectory.resolve("assertj-async-report.csv")).isNotEmptyFile();
+        softly.assertThat(reportDirectory.resolve("assertj-async-report.json")).isNotEmptyFile();
+    }
+
+    private void awaitPassed(final int checkCount, final Duration waitTime, final Duration elapsedTime)
+    {
+        final var context = new AsyncAssertContext(TIMEOUT, CHECK_INTERVAL, CALL_SITE, false);
+        tested.onStart(context);
+        if (!waitTime.isZero())
+        {
+            tested.onWait(context, CHECK_INTERVAL, waitTime);
+        }
+        tested.onSuccess(context, checkCount, elapsedTime);
+    }
+}
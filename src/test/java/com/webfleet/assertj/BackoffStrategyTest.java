@@ -0,0 +1,139 @@
+package com.webfleet.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class BackoffStrategyTest
+{
+    private static final Duration INTERVAL = Duration.ofMillis(10L);
+
+    @Test
+    void shouldComputeFixedIntervals()
+    {
+        assertThat(intervals(BackoffStrategy.fixed(INTERVAL), 4))
+            .containsExactly(ms(10), ms(10), ms(10), ms(10));
+    }
+
+    @Test
+    void shouldComputeExponentialIntervals()
+    {
+        assertThat(intervals(BackoffStrategy.exponential(INTERVAL), 5))
+            .containsExactly(ms(10), ms(20), ms(40), ms(80), ms(160));
+    }
+
+    @Test
+    void shouldComputeExponentialIntervalsWithCustomMultiplier()
+    {
+        assertThat(intervals(BackoffStrategy.exponential(INTERVAL, 1.5), 4))
+            .containsExactly(ms(10), ms(15), Duration.ofMillis(22L).plusNanos(500_000L), Duration.ofMillis(33L).plusNanos(750_000L));
+    }
+
+    @Test
+    void shouldComputeFibonacciIntervals()
+    {
+        assertThat(intervals(BackoffStrategy.fibonacci(INTERVAL), 7))
+            .containsExactly(ms(10), ms(10), ms(20), ms(30), ms(50), ms(80), ms(130));
+    }
+
+    @Test
+    void shouldComputeDecorrelatedJitterIntervalsBetweenBaseAndThreeTimesPreviousInterval(final SoftAssertions softly)
+    {
+        // given
+        final var strategy = BackoffStrategy.decorrelatedJitter(INTERVAL);
+        var previousInterval = Duration.ZERO;
+
+        for (var failedChecks = 1; failedChecks <= 100; failedChecks++)
+        {
+            // when
+            final var interval = strategy.nextInterval(failedChecks, previousInterval);
+
+            // then
+            softly.assertThat(interval).isBetween(INTERVAL, max(INTERVAL, previousInterval).multipliedBy(3));
+            previousInterval = interval;
+        }
+    }
+
+    @Test
+    void shouldCapIntervals()
+    {
+        assertThat(intervals(BackoffStrategy.exponential(INTERVAL).withCap(ms(50)), 5))
+            .containsExactly(ms(10), ms(20), ms(40), ms(50), ms(50));
+    }
+
+    @Test
+    void shouldSaturateIntervalsInsteadOfOverflow(final SoftAssertions softly)
+    {
+        softly.assertThat(BackoffStrategy.exponential(INTERVAL).nextInterval(Integer.MAX_VALUE, Duration.ZERO))
+            .isEqualTo(Duration.ofNanos(Long.MAX_VALUE));
+        softly.assertThat(BackoffStrategy.fibonacci(INTERVAL).nextInterval(Integer.MAX_VALUE, Duration.ZERO))
+            .isEqualTo(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"PT0S", "-PT0.001S"})
+    void shouldRejectNotPositiveIntervals(final Duration interval, final SoftAssertions softly)
+    {
+        softly.assertThat(catchThrowable(() -> BackoffStrategy.fixed(interval)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("interval must be greater than zero");
+        softly.assertThat(catchThrowable(() -> BackoffStrategy.exponential(interval)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("initialInterval must be greater than zero");
+        softly.assertThat(catchThrowable(() -> BackoffStrategy.fibonacci(interval)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("initialInterval must be greater than zero");
+        softly.assertThat(catchThrowable(() -> BackoffStrategy.decorrelatedJitter(interval)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("baseInterval must be greater than zero");
+        softly.assertThat(catchThrowable(() -> BackoffStrategy.fixed(INTERVAL).withCap(interval)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxInterval must be greater than zero");
+    }
+
+    @Test
+    void shouldRejectExponentialMultiplierLowerThanOne()
+    {
+        // when
+        final var caughtException = catchThrowable(() -> BackoffStrategy.exponential(INTERVAL, 0.9));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("multiplier must be greater than or equal to 1");
+    }
+
+    private static List<Duration> intervals(final BackoffStrategy strategy, final int count)
+    {
+        final var intervals = new ArrayList<Duration>();
+        var previousInterval = Duration.ZERO;
+        for (var failedChecks = 1; failedChecks <= count; failedChecks++)
+        {
+            previousInterval = strategy.nextInterval(failedChecks, previousInterval);
+            intervals.add(previousInterval);
+        }
+        return intervals;
+    }
+
+    private static Duration max(final Duration first, final Duration second)
+    {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static Duration ms(final long millis)
+    {
+        return Duration.ofMillis(millis);
+    }
+}
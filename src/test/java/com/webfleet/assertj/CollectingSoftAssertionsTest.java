@@ -0,0 +1,62 @@
+package com.webfleet.assertj;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class CollectingSoftAssertionsTest
+{
+    private final CollectingSoftAssertions tested = new CollectingSoftAssertions();
+
+    @Test
+    void shouldReuseSingleSoftAssertionsInstance(final SoftAssertions softly)
+    {
+        // when
+        final var first = tested.reset().assertions();
+        final var second = tested.reset().assertions();
+
+        // then
+        softly.assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldCollectErrorsOfSoftAssertions(final SoftAssertions softly)
+    {
+        // given
+        final var assertions = tested.reset().assertions();
+
+        // when
+        assertions.assertThat(1).isNegative();
+        assertions.assertThat("text").isEmpty();
+
+        // then
+        softly.assertThat(tested.hasErrors()).isTrue();
+        softly.assertThat(tested.assertionErrorsCollected()).hasSize(2);
+        softly.assertThat(tested.wasSuccess()).isFalse();
+        softly.assertThat(catchThrowable(assertions::assertAll)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void shouldClearErrorsCollectedByPreviousCheck(final SoftAssertions softly)
+    {
+        // given
+        tested.reset().assertions().assertThat(1).isNegative();
+        final var previousErrors = tested.assertionErrorsCollected();
+
+        // when
+        final var assertions = tested.reset().assertions();
+        assertions.assertThat(1).isPositive();
+
+        // then
+        softly.assertThat(tested.hasErrors()).isFalse();
+        softly.assertThat(tested.assertionErrorsCollected()).isEmpty();
+        softly.assertThat(tested.wasSuccess()).isTrue();
+        softly.assertThat(catchThrowable(assertions::assertAll)).isNull();
+        softly.assertThat(previousErrors).hasSize(1);
+    }
+}
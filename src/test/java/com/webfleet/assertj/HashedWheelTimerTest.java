@@ -0,0 +1,184 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class HashedWheelTimerTest
+{
+    private final HashedWheelTimer tested = new HashedWheelTimer("test-timer", Duration.ofMillis(1L), 8);
+
+    @AfterEach
+    void stopTimer()
+    {
+        tested.stop();
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldRunTaskNotBeforeDelay()
+    {
+        // given
+        final var task = new CompletableFuture<Long>();
+        final var startTime = System.nanoTime();
+
+        // when
+        tested.schedule(() -> task.complete(System.nanoTime()), Duration.ofMillis(50L));
+
+        // then
+        assertThat(MILLISECONDS.convert(task.join() - startTime, NANOSECONDS)).isBetween(50L, 150L);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldRunTaskWithDelayExceedingSingleWheelRound()
+    {
+        // given
+        final var task = new CompletableFuture<Long>();
+        final var startTime = System.nanoTime();
+
+        // when
+        tested.schedule(() -> task.complete(System.nanoTime()), Duration.ofMillis(30L)); // wheel round is 8ms
+
+        // then
+        assertThat(MILLISECONDS.convert(task.join() - startTime, NANOSECONDS)).isBetween(30L, 130L);
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldRunTasksInDeadlineOrder() throws Exception
+    {
+        // given
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final var latch = new CountDownLatch(3);
+
+        // when
+        tested.schedule(() -> run(executed, "third", latch), Duration.ofMillis(60L));
+        tested.schedule(() -> run(executed, "first", latch), Duration.ofMillis(20L));
+        tested.schedule(() -> run(executed, "second", latch), Duration.ofMillis(40L));
+
+        // then
+        latch.await();
+        assertThat(executed).containsExactly("first", "second", "third");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"PT0S", "-PT1S"})
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldRunTaskOnNextTickWhenDelayIsNotPositive(final Duration delay)
+    {
+        // given
+        final var task = new CompletableFuture<Void>();
+
+        // when
+        tested.schedule(() -> task.complete(null), delay);
+
+        // then
+        assertThat(catchThrowable(task::join)).isNull();
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldKeepRunningTasksAfterTaskFailure(final SoftAssertions softly)
+    {
+        // given
+        final var task = new CompletableFuture<Void>();
+
+        // when
+        tested.schedule(() -> {
+            throw new IllegalStateException("test");
+        }, Duration.ofMillis(5L));
+        tested.schedule(() -> task.complete(null), Duration.ofMillis(10L));
+
+        // then
+        softly.assertThat(catchThrowable(task::join)).isNull();
+        softly.assertThat(tested.pendingTasks()).isZero();
+    }
+
+    @Test
+    @Timeout(value = 2, unit = SECONDS)
+    void shouldRunThousandsOfConcurrentTasks() throws Exception
+    {
+        // given
+        final var taskCount = 10_000;
+        final var latch = new CountDownLatch(taskCount);
+
+        // when
+        for (var i = 0; i < taskCount; i++)
+        {
+            tested.schedule(latch::countDown, Duration.ofMillis(i % 100));
+        }
+
+        // then
+        latch.await();
+        assertThat(tested.pendingTasks()).isZero();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "-1", "3", "100"})
+    void shouldRejectWheelSizeWhichIsNotPositivePowerOfTwo(final int wheelSize)
+    {
+        // when
+        final var caughtException = catchThrowable(() -> new HashedWheelTimer("test-timer", Duration.ofMillis(1L), wheelSize));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("wheelSize must be positive power of two");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"PT0S", "-PT0.001S"})
+    void shouldRejectNotPositiveTickDuration(final Duration tickDuration)
+    {
+        // when
+        final var caughtException = catchThrowable(() -> new HashedWheelTimer("test-timer", tickDuration, 8));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("tickDuration must be greater than zero");
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldKeepRunningTasksAfterTaskFailedWithError()
+    {
+        // given
+        final var task = new CompletableFuture<Void>();
+        tested.schedule(() -> {
+            throw new AssertionError("failed task");
+        }, Duration.ofMillis(10L));
+
+        // when
+        tested.schedule(() -> task.complete(null), Duration.ofMillis(30L));
+
+        // then
+        assertThat(task).succeedsWithin(Duration.ofMillis(500L));
+    }
+
+    private static void run(final List<String> executed, final String name, final CountDownLatch latch)
+    {
+        executed.add(name);
+        latch.countDown();
+    }
+}
@@ -25,7 +25,7 @@ final class MockTime implements Time
         doAnswer(args -> mockTime.waitIntervals.add(args.getArgument(0)))
             .when(mockTime.waitCondition).waitFor(any());
         doAnswer(args -> mockTime.computeElapsedTime())
-            .when(mockTime.elapsedTime).get();
+            .when(mockTime.elapsedTime).nanos();
         return mockTime;
     }
 
@@ -35,6 +35,12 @@ final class MockTime implements Time
         return elapsedTime;
     }
 
+    @Override
+    public boolean measuresRealTime()
+    {
+        return false;
+    }
+
     @Override
     public WaitCondition waitCondition(final Object mutex)
     {
@@ -42,6 +48,13 @@ final class MockTime implements Time
         return waitCondition;
     }
 
+    @Override
+    public void schedule(final Runnable task, final Duration delay)
+    {
+        waitIntervals.add(delay);
+        task.run();
+    }
+
     List<Duration> waitIntervals()
     {
         return unmodifiableList(waitIntervals);
@@ -52,9 +65,9 @@ final class MockTime implements Time
         return unmodifiableList(waitMutexObjects);
     }
 
-    private Duration computeElapsedTime()
+    private long computeElapsedTime()
     {
-        return Duration.ofMillis(waitIntervals.stream().collect(summingLong(Duration::toMillis)));
+        return waitIntervals.stream().collect(summingLong(Duration::toNanos));
     }
 
 }
@@ -0,0 +1,127 @@
+package com.webfleet.assertj;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.concurrent.Flow;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+@ExtendWith({MockitoExtension.class, SoftAssertionsExtension.class})
+class PublisherSignalTest
+{
+    @Mock
+    private Flow.Subscription subscription;
+    @Mock
+    private Flow.Subscription otherSubscription;
+
+    private final PublisherSignal tested = new PublisherSignal();
+
+    @Test
+    void shouldRequestSingleElementOnSubscribe()
+    {
+        // when
+        tested.onSubscribe(subscription);
+        tested.requestNext();
+
+        // then
+        then(subscription).should(times(1)).request(1L);
+    }
+
+    @Test
+    void shouldRequestNextElementOnlyAfterPreviousOneWasReceived(final SoftAssertions softly)
+    {
+        // given
+        tested.onSubscribe(subscription);
+        final var waitCondition = tested.signal().waitCondition();
+
+        // when
+        tested.onNext("element");
+        tested.requestNext();
+
+        // then
+        then(subscription).should(times(2)).request(1L);
+        softly.assertThat(waitCondition.isSignalled()).isTrue();
+    }
+
+    @Test
+    void shouldSignalPublisherCompletion(final SoftAssertions softly)
+    {
+        // given
+        tested.onSubscribe(subscription);
+        final var waitCondition = tested.signal().waitCondition();
+
+        // when
+        tested.onComplete();
+
+        // then
+        softly.assertThat(waitCondition.isSignalled()).isTrue();
+        softly.assertThat(tested.isTerminated()).isTrue();
+        softly.assertThat(tested.error()).isNull();
+    }
+
+    @Test
+    void shouldSignalPublisherError(final SoftAssertions softly)
+    {
+        // given
+        final var error = new IllegalStateException("test");
+        tested.onSubscribe(subscription);
+        final var waitCondition = tested.signal().waitCondition();
+
+        // when
+        tested.onError(error);
+
+        // then
+        softly.assertThat(waitCondition.isSignalled()).isTrue();
+        softly.assertThat(tested.isTerminated()).isTrue();
+        softly.assertThat(tested.error()).isSameAs(error);
+    }
+
+    @Test
+    void shouldCancelSubscription()
+    {
+        // given
+        tested.onSubscribe(subscription);
+
+        // when
+        tested.cancel();
+
+        // then
+        then(subscription).should().cancel();
+    }
+
+    @Test
+    void shouldCancelSubscriptionReceivedAfterCancellation()
+    {
+        // given
+        tested.cancel();
+
+        // when
+        tested.onSubscribe(subscription);
+
+        // then
+        then(subscription).should().cancel();
+        then(subscription).should(never()).request(1L);
+    }
+
+    @Test
+    void shouldCancelSecondSubscription()
+    {
+        // given
+        tested.onSubscribe(subscription);
+
+        // when
+        tested.onSubscribe(otherSubscription);
+
+        // then
+        then(otherSubscription).should().cancel();
+        then(otherSubscription).should(never()).request(1L);
+    }
+}
@@ -5,9 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.BDDMockito.given;
 
-import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongSupplier;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -29,20 +30,20 @@ import com.webfleet.assertj.util.EnableScheduledExecutor;
 class TimeTest
 {
     @Mock
-    private Clock clock;
+    private LongSupplier ticker;
     private Time tested;
 
     @BeforeEach
     void setup()
     {
-        tested = SystemTime.withClock(clock);
+        tested = SystemTime.withTicker(ticker);
     }
 
     @Test
-    void shouldMeasureElapsedTimeUsingClock(final SoftAssertions softly)
+    void shouldMeasureElapsedTimeUsingTicker(final SoftAssertions softly)
     {
         // given
-        given(clock.millis()).willReturn(0L, 5000L, 15000L);
+        given(ticker.getAsLong()).willReturn(1_000_000_000L, 6_000_000_000L, 16_000_000_000L);
 
         // when
         final var elapsedTime = tested.measure();
@@ -61,6 +62,22 @@ class TimeTest
         softly.assertThat(elapsedTime.isLowerThanOrEqualTo(Duration.ofSeconds(15).minusMillis(1))).isFalse();
     }
 
+    @Test
+    void shouldMeasureElapsedTimeInNanoseconds(final SoftAssertions softly)
+    {
+        // given
+        given(ticker.getAsLong()).willReturn(Long.MAX_VALUE - 500L, Long.MIN_VALUE + 1_500L);
+
+        // when
+        final var elapsedTime = tested.measure();
+
+        // then ticker overflow doesn't affect the measurement
+        softly.assertThat(elapsedTime.nanos()).isEqualTo(2_001L);
+        softly.assertThat(elapsedTime.get()).isEqualTo(Duration.ofNanos(2_001L));
+        softly.assertThat(elapsedTime.isLowerThan(Duration.ofNanos(2_002L))).isTrue();
+        softly.assertThat(elapsedTime.isLowerThan(Duration.ofNanos(2_001L))).isFalse();
+    }
+
     @Test
     void shouldIgnoreWaitingZeroDuration()
     {
@@ -106,6 +123,22 @@ class TimeTest
         assertThat(elapsed).isBetween(500L, 600L);
     }
 
+    @Test
+    @Timeout(value = 100L, unit = MILLISECONDS)
+    void shouldWaitForSubMillisecondInterval()
+    {
+        // given
+        final var mutexObject = new Object();
+        final var waitCondition = SystemTime.MONOTONIC.waitCondition(mutexObject);
+        final var startTime = System.nanoTime();
+
+        // when
+        waitCondition.waitFor(Duration.ofNanos(200_000L));
+
+        // then
+        assertThat(System.nanoTime() - startTime).isGreaterThanOrEqualTo(200_000L);
+    }
+
     @Test
     void shouldStopWaitingWhenMutexObjectIsNotified(final ExecutorService executor, final SoftAssertions softly) throws Exception
     {
@@ -126,4 +159,19 @@ class TimeTest
         softly.assertThat(catchThrowable(() -> future.get(100L, MILLISECONDS))).isNull(); // 100ms margin for future completion
         softly.assertThat(future).isDone();
     }
+
+    @Test
+    @Timeout(value = 600L, unit = MILLISECONDS)
+    void shouldRunScheduledTaskAfterDelay()
+    {
+        // given
+        final var task = new CompletableFuture<Long>();
+        final var startTime = System.currentTimeMillis();
+
+        // when
+        tested.schedule(() -> task.complete(System.currentTimeMillis()), Duration.ofMillis(300L));
+
+        // then
+        assertThat(task.join() - startTime).isBetween(300L, 400L);
+    }
 }
@@ -0,0 +1,70 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.webfleet.assertj.Time.ElapsedTime;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class TimedCheckTest
+{
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final AsyncAssertAwaitConfig CONFIG = AsyncAssertAwaitConfig
+        .withTimeout(TIMEOUT)
+        .withCheckTimeout(Duration.ofSeconds(10));
+    private static final ElapsedTime AT_TIMEOUT = TIMEOUT::toNanos;
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldLimitCheckStartedAtRealTimeoutByGracePeriod(final SoftAssertions softly)
+    {
+        // given
+        final var realTime = SystemTime.withTicker(System::nanoTime);
+        final var tested = TimedCheck.of(() -> sleepingCheck(Duration.ofSeconds(10)), CONFIG, realTime, AT_TIMEOUT);
+        final var startTime = System.nanoTime();
+
+        // when
+        final var result = tested.get();
+
+        // then
+        softly.assertThat(result.hasFailed()).isTrue();
+        softly.assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofMillis(500L));
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldLimitCheckStartedAtTimeoutOfVirtualTimeOnlyByCheckTimeout()
+    {
+        // given
+        final var tested = TimedCheck.of(() -> sleepingCheck(Duration.ofMillis(100L)), CONFIG, MockTime.create(), AT_TIMEOUT);
+
+        // when
+        final var result = tested.get();
+
+        // then
+        assertThat(result.hasFailed()).isFalse();
+    }
+
+    private static AsyncAssertResult sleepingCheck(final Duration duration)
+    {
+        try
+        {
+            Thread.sleep(duration.toMillis());
+            return AsyncAssertResult.passed();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return AsyncAssertResult.undefined();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.webfleet.assertj;
+
+import static com.webfleet.assertj.AsyncAssertions.awaitAtMost;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+
+@ExtendWith(SoftAssertionsExtension.class)
+class VirtualTimeScheduledExecutorTest
+{
+    private final VirtualTimeScheduledExecutor tested = new VirtualTimeScheduledExecutor();
+    private final List<String> executions = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldExecuteTasksInDeadlineOrderWithVirtualTimeOfDeadline(final SoftAssertions softly)
+    {
+        // given
+        tested.schedule(() -> record("second"), 2, HOURS);
+        tested.schedule(() -> record("first"), 1, HOURS);
+        tested.schedule(() -> record("third"), 3, HOURS);
+
+        // when
+        tested.advanceBy(Duration.ofMinutes(150));
+
+        // then
+        softly.assertThat(executions).containsExactly("first@PT1H", "second@PT2H");
+        softly.assertThat(tested.elapsed()).isEqualTo(Duration.ofMinutes(150));
+    }
+
+    @Test
+    void shouldExecuteTasksWithSameDeadlineInSubmissionOrder()
+    {
+        // given
+        tested.execute(() -> record("first"));
+        tested.execute(() -> record("second"));
+
+        // when
+        tested.runDueTasks();
+
+        // then
+        assertThat(executions).containsExactly("first@PT0S", "second@PT0S");
+    }
+
+    @Test
+    void shouldRepeatPeriodicTasksUntilCancelled(final SoftAssertions softly)
+    {
+        // given
+        final var fixedRate = tested.scheduleAtFixedRate(() -> record("rate"), 0, 30, MINUTES);
+        tested.scheduleWithFixedDelay(() -> {
+            record("delay");
+            tested.advanceBy(Duration.ofMinutes(10));
+        }, 40, 40, MINUTES);
+
+        // when
+        tested.advanceBy(Duration.ofMinutes(60));
+        fixedRate.cancel(false);
+        tested.advanceBy(Duration.ofMinutes(60));
+
+        // then
+        softly.assertThat(executions).containsExactly(
+            "rate@PT0S",
+            "rate@PT30M",
+            "delay@PT40M",
+            "rate@PT1H",
+            "delay@PT1H30M");
+        softly.assertThat(tested.elapsed()).isEqualTo(Duration.ofMinutes(120));
+    }
+
+    @Test
+    void shouldWaitOnlyUntilNextTaskDeadline(final SoftAssertions softly)
+    {
+        // given
+        tested.schedule(() -> record("task"), 5, MINUTES);
+
+        // when
+        tested.waitFor(Duration.ofMinutes(10));
+
+        // then
+        softly.assertThat(executions).containsExactly("task@PT5M");
+        softly.assertThat(tested.elapsed()).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldAdvanceVirtualTimeUntilFutureIsDone() throws Exception
+    {
+        // given
+        final var future = tested.schedule(() -> tested.elapsed(), 7, HOURS);
+
+        // when
+        final var result = future.get();
+
+        // then
+        assertThat(result).isEqualTo(Duration.ofHours(7));
+    }
+
+    @Test
+    void shouldInvokeAllTasks() throws Exception
+    {
+        // given
+        final List<Callable<Integer>> tasks = List.of(() -> 1, () -> 2);
+
+        // when
+        final var futures = tested.invokeAll(tasks);
+
+        // then
+        assertThat(futures).allMatch(Future::isDone);
+    }
+
+    @Test
+    void shouldRejectTasksAfterShutdownAndExecuteRemainingDelayedTasks(final SoftAssertions softly) throws Exception
+    {
+        // given
+        tested.schedule(() -> record("delayed"), 1, HOURS);
+        tested.scheduleAtFixedRate(() -> record("periodic"), 1, 1, HOURS);
+
+        // when
+        tested.shutdown();
+
+        // then
+        softly.assertThat(catchThrowable(() -> tested.execute(() -> record("rejected"))))
+            .isInstanceOf(RejectedExecutionException.class);
+        softly.assertThat(tested.isTerminated()).isFalse();
+        softly.assertThat(tested.awaitTermination(1, HOURS)).isTrue();
+        softly.assertThat(executions).containsExactly("delayed@PT1H");
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldAssertHourLongSchedulesInVirtualTime(final SoftAssertions softly)
+    {
+        // given
+        final var reports = new AtomicInteger();
+        tested.scheduleAtFixedRate(reports::incrementAndGet, 1, 1, HOURS);
+
+        // when
+        final var caughtException = catchThrowable(() -> awaitAtMost(Duration.ofHours(3))
+            .usingClock(tested)
+            .withCheckInterval(Duration.ofMinutes(1))
+            .untilAssertions(async -> async.assertThat(reports).hasValue(2)));
+
+        // then
+        softly.assertThat(caughtException).isNull();
+        softly.assertThat(tested.elapsed()).isEqualTo(Duration.ofHours(2));
+    }
+
+    @Test
+    @Timeout(value = 1, unit = SECONDS)
+    void shouldExecuteAsyncChecksWhenVirtualTimeIsAdvanced()
+    {
+        // given
+        final var reports = new AtomicInteger();
+        tested.scheduleAtFixedRate(reports::incrementAndGet, 1, 1, HOURS);
+        final var future = awaitAtMost(Duration.ofHours(3))
+            .usingClock(tested)
+            .withCheckInterval(Duration.ofMinutes(1))
+            .untilAssertionsAsync(async -> async.assertThat(reports).hasValue(2));
+
+        // when
+        tested.advanceBy(Duration.ofHours(3));
+
+        // then
+        assertThat(future).isCompleted();
+    }
+
+    private void record(final String name)
+    {
+        executions.add(name + "@" + tested.elapsed());
+    }
+}
@@ -0,0 +1,100 @@
+package com.webfleet.assertj;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.webfleet.assertj.Time.WaitCondition;
+
+
+@ExtendWith({MockitoExtension.class, SoftAssertionsExtension.class})
+class WaitStrategyTest
+{
+    @Mock
+    private WaitCondition blockingWaitCondition;
+
+    @Test
+    void shouldUseBlockingWaitConditionByDefault()
+    {
+        assertThat(WaitStrategy.blocking().apply(blockingWaitCondition)).isSameAs(blockingWaitCondition);
+    }
+
+    @Test
+    void shouldSpinAndYieldBeforeBlockingWaitForTheRestOfInterval(final SoftAssertions softly)
+    {
+        // given
+        final var tested = WaitStrategy.spinThenPark(Duration.ofMillis(2L), Duration.ofMillis(3L)).apply(blockingWaitCondition);
+        final var interval = ArgumentCaptor.forClass(Duration.class);
+
+        // when
+        tested.waitFor(Duration.ofMillis(50L));
+
+        // then
+        then(blockingWaitCondition).should().waitFor(interval.capture());
+        softly.assertThat(interval.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(45L));
+    }
+
+    @Test
+    void shouldOnlySpinWhenIntervalIsShorterThanSpinDuration()
+    {
+        // given
+        final var tested = WaitStrategy.spinThenPark(Duration.ofMillis(20L), Duration.ZERO).apply(blockingWaitCondition);
+        final var startTime = System.nanoTime();
+
+        // when
+        tested.waitFor(Duration.ofMillis(5L));
+
+        // then
+        assertThat(MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS)).isGreaterThanOrEqualTo(5L);
+        then(blockingWaitCondition).should(never()).waitFor(any());
+    }
+
+    @Test
+    void shouldEndTheWaitWhenConditionIsSignalledWhileSpinning()
+    {
+        // given
+        given(blockingWaitCondition.isSignalled()).willReturn(false, false, true);
+        final var tested = WaitStrategy.spinThenPark(Duration.ofSeconds(5), Duration.ofSeconds(5)).apply(blockingWaitCondition);
+        final var startTime = System.nanoTime();
+
+        // when
+        tested.waitFor(Duration.ofSeconds(10));
+
+        // then
+        assertThat(MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS)).isLessThan(100L);
+        then(blockingWaitCondition).should(never()).waitFor(any());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-PT0.001S, PT0S, spinDuration must be greater than or equal to zero",
+        "PT0S, -PT0.001S, yieldDuration must be greater than or equal to zero"
+    })
+    void shouldRejectNegativeDurations(final Duration spinDuration, final Duration yieldDuration, final String expectedMessage)
+    {
+        // when
+        final var caughtException = catchThrowable(() -> WaitStrategy.spinThenPark(spinDuration, yieldDuration));
+
+        // then
+        assertThat(caughtException)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(expectedMessage);
+    }
+}